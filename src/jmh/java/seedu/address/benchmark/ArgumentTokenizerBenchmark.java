@@ -0,0 +1,47 @@
+package seedu.address.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.address.logic.parser.ArgumentMultimap;
+import seedu.address.logic.parser.ArgumentTokenizer;
+import seedu.address.logic.parser.Prefix;
+
+/**
+ * Measures tokenizing the arguments of a command with many tags and escaped prefixes.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ArgumentTokenizerBenchmark {
+
+    private static final Prefix[] PREFIXES = {new Prefix("n/"), new Prefix("p/"), new Prefix("e/"),
+        new Prefix("a/"), new Prefix("t/"), new Prefix("r/"), new Prefix("s/")};
+
+    @Param({"10", "100", "1000"})
+    private int tagCount;
+
+    private String argsString;
+
+    @Setup
+    public void setUp() {
+        StringBuilder args = new StringBuilder(" 1 n/Some Company p/91234567 e/hr@company.com a/1 Road");
+        for (int i = 0; i < tagCount; i++) {
+            args.append(" t/tag-").append(i).append(" r/remark \\t/ ").append(i);
+        }
+        argsString = args.toString();
+    }
+
+    @Benchmark
+    public ArgumentMultimap tokenize() {
+        return ArgumentTokenizer.tokenize(argsString, PREFIXES);
+    }
+}
@@ -0,0 +1,44 @@
+package seedu.address.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.company.Address;
+import seedu.address.model.company.Company;
+import seedu.address.model.company.Email;
+import seedu.address.model.company.Name;
+import seedu.address.model.company.Phone;
+import seedu.address.model.company.Remark;
+import seedu.address.model.company.Status;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Builds the data that the benchmarks run on.
+ */
+public class BenchmarkData {
+
+    /**
+     * Returns {@code count} distinct companies, named "Company 0" onwards.
+     */
+    public static List<Company> getCompanies(int count) {
+        List<Company> companies = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            companies.add(new Company(new Name("Company " + i), new Phone("6" + (1000000 + i)),
+                    new Email("company" + i + "@example.com"), new Address(i + " Science Park Road"),
+                    Set.of(new Tag("tag" + i % 10)), new Remark("Remark " + i),
+                    new Status(Status.Stage.values()[i % Status.Stage.values().length])));
+        }
+        return companies;
+    }
+
+    /**
+     * Returns an address book of {@code count} companies, see {@link #getCompanies(int)}.
+     */
+    public static AddressBook getAddressBook(int count) {
+        AddressBook addressBook = new AddressBook();
+        addressBook.setCompanies(getCompanies(count));
+        return addressBook;
+    }
+}
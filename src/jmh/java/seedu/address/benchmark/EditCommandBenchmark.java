@@ -0,0 +1,59 @@
+package seedu.address.benchmark;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.address.commons.core.index.IndexRanges;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.EditCommand;
+import seedu.address.logic.commands.EditCommand.EditCompanyDescriptor;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Measures editing the tags of every company in the list with a single batch edit, e.g. {@code edit 1-10000 t/x}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class EditCommandBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int companyCount;
+
+    private AddressBook addressBook;
+    private EditCommand editCommand;
+    private Model model;
+
+    @Setup
+    public void setUp() {
+        addressBook = BenchmarkData.getAddressBook(companyCount);
+        EditCompanyDescriptor descriptor = new EditCompanyDescriptor();
+        descriptor.setTags(Set.of(new Tag("benchmarked")));
+        editCommand = new EditCommand(new IndexRanges(new int[] {0}, new int[] {companyCount - 1}), descriptor);
+    }
+
+    @Setup(Level.Invocation)
+    public void setUpModel() {
+        model = new ModelManager(addressBook, new UserPrefs());
+    }
+
+    @Benchmark
+    public CommandResult batchEditAllCompanies() throws CommandException {
+        return editCommand.execute(model);
+    }
+}
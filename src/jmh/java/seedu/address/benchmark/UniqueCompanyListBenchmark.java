@@ -0,0 +1,90 @@
+package seedu.address.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.address.model.company.Company;
+import seedu.address.model.company.Remark;
+import seedu.address.model.company.UniqueCompanyList;
+
+/**
+ * Measures the bulk operations of {@code UniqueCompanyList}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class UniqueCompanyListBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int companyCount;
+
+    private List<Company> companies;
+    private List<Company> everyOtherCompany;
+    private List<Company> editedCompanies;
+
+    @Setup
+    public void setUp() {
+        companies = BenchmarkData.getCompanies(companyCount);
+        everyOtherCompany = new ArrayList<>();
+        for (int i = 0; i < companyCount; i += 2) {
+            everyOtherCompany.add(companies.get(i));
+        }
+        editedCompanies = new ArrayList<>();
+        for (Company company : companies) {
+            editedCompanies.add(new Company(company.getName(), company.getPhone(), company.getEmail(),
+                    company.getAddress(), company.getTags(), new Remark("Edited"), company.getStatus()));
+        }
+    }
+
+    @Benchmark
+    public UniqueCompanyList setCompanies() {
+        UniqueCompanyList uniqueCompanyList = new UniqueCompanyList();
+        uniqueCompanyList.setCompanies(companies);
+        return uniqueCompanyList;
+    }
+
+    /**
+     * Removes half of the companies, none of them next to each other, so every removal is a separate range.
+     */
+    @Benchmark
+    public UniqueCompanyList removeEveryOtherCompany(FilledList filledList) {
+        filledList.uniqueCompanyList.removeAll(everyOtherCompany);
+        return filledList.uniqueCompanyList;
+    }
+
+    /**
+     * Replaces every company in the list one at a time, as separate edits would.
+     */
+    @Benchmark
+    public UniqueCompanyList setEachCompany(FilledList filledList) {
+        for (int i = 0; i < companyCount; i++) {
+            filledList.uniqueCompanyList.setCompany(companies.get(i), editedCompanies.get(i));
+        }
+        return filledList.uniqueCompanyList;
+    }
+
+    /**
+     * A list holding all the companies, refilled before every invocation of the benchmarks that modify it.
+     */
+    @State(Scope.Thread)
+    public static class FilledList {
+        private UniqueCompanyList uniqueCompanyList;
+
+        @Setup(Level.Invocation)
+        public void setUp(UniqueCompanyListBenchmark benchmark) {
+            uniqueCompanyList = new UniqueCompanyList();
+            uniqueCompanyList.setCompanies(benchmark.companies);
+        }
+    }
+}
@@ -23,6 +23,8 @@ import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.BinaryCachedAddressBookStorage;
+import seedu.address.storage.JournaledAddressBookStorage;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
@@ -46,6 +48,9 @@ public class MainApp extends Application {
     protected Model model;
     protected Config config;
 
+    /** The cache of the address book data file, or null if caching is disabled. */
+    private BinaryCachedAddressBookStorage addressBookCache;
+
     @Override
     public void init() throws Exception {
         logger.info("=============================[ Initializing AddressBook ]===========================");
@@ -59,15 +64,23 @@ public class MainApp extends Application {
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         System.out.println("UserPrefs Path: " + config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath(),
+                config.isPrettyPrintDataFile(), config.getDataFileBackupCount());
+        AddressBookStorage addressBookStorage = config.isJournalDataFile()
+                ? new JournaledAddressBookStorage(jsonAddressBookStorage)
+                : jsonAddressBookStorage;
+        if (config.isCacheDataFile()) {
+            addressBookCache = new BinaryCachedAddressBookStorage(addressBookStorage);
+            addressBookStorage = addressBookCache;
+        }
         System.out.println("AddressBookFile Path: " + userPrefs.getAddressBookFilePath());
         storage = new StorageManager(addressBookStorage, userPrefsStorage);
 
-        model = initModelManager(storage, userPrefs);
+        model = initModelManager(storage, userPrefs, config.isKeepFilterOnChange());
 
         logic = new LogicManager(model, storage);
 
-        ui = new UiManager(logic);
+        ui = new UiManager(logic, jsonAddressBookStorage.getRecoveryMessage());
     }
 
     /**
@@ -75,7 +88,7 @@ public class MainApp extends Application {
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
      * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
      */
-    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
+    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs, boolean isFilterKeptOnChange) {
         logger.info("Using data file : " + storage.getAddressBookFilePath());
 
         Optional<ReadOnlyAddressBook> addressBookOptional;
@@ -93,7 +106,7 @@ public class MainApp extends Application {
             initialData = new AddressBook();
         }
 
-        return new ModelManager(initialData, userPrefs);
+        return new ModelManager(initialData, userPrefs, isFilterKeptOnChange);
     }
 
     private void initLogging(Config config) {
@@ -130,6 +143,12 @@ public class MainApp extends Application {
             initializedConfig = new Config();
         }
 
+        if (initializedConfig.getDataFileBackupCount() < 0) {
+            logger.warning("Data file backup count in config file at " + configFilePathUsed + " cannot be negative."
+                    + " Keeping no backups.");
+            initializedConfig.setDataFileBackupCount(0);
+        }
+
         //Update config file in case it was missing to begin with or there are new/unused fields
         try {
             ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
@@ -180,10 +199,18 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping AddressBook ] =============================");
+        logic.flushPendingSaves();
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        if (addressBookCache != null) {
+            try {
+                addressBookCache.saveCache();
+            } catch (IOException e) {
+                logger.warning("Failed to save address book cache " + StringUtil.getDetails(e));
+            }
+        }
     }
 }
@@ -17,6 +17,11 @@ public class Config {
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private boolean prettyPrintDataFile = true;
+    private int dataFileBackupCount = 0;
+    private boolean journalDataFile = false;
+    private boolean cacheDataFile = false;
+    private boolean keepFilterOnChange = false;
 
     public Level getLogLevel() {
         return logLevel;
@@ -34,6 +39,65 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    /**
+     * Returns true if the address book data file should be indented for readability.
+     * Compact output is smaller and faster to write for large address books.
+     */
+    public boolean isPrettyPrintDataFile() {
+        return prettyPrintDataFile;
+    }
+
+    public void setPrettyPrintDataFile(boolean prettyPrintDataFile) {
+        this.prettyPrintDataFile = prettyPrintDataFile;
+    }
+
+    /**
+     * Returns the number of previous versions of the address book data file to keep as backups.
+     */
+    public int getDataFileBackupCount() {
+        return dataFileBackupCount;
+    }
+
+    public void setDataFileBackupCount(int dataFileBackupCount) {
+        this.dataFileBackupCount = dataFileBackupCount;
+    }
+
+    /**
+     * Returns true if changes to the address book should be appended to a journal next to the data file,
+     * instead of rewriting the whole data file on every save.
+     */
+    public boolean isJournalDataFile() {
+        return journalDataFile;
+    }
+
+    public void setJournalDataFile(boolean journalDataFile) {
+        this.journalDataFile = journalDataFile;
+    }
+
+    /**
+     * Returns true if a binary copy of the address book data should be kept next to the data file on shutdown,
+     * to be loaded instead of the data file on the next start if the data file is unchanged.
+     */
+    public boolean isCacheDataFile() {
+        return cacheDataFile;
+    }
+
+    public void setCacheDataFile(boolean cacheDataFile) {
+        this.cacheDataFile = cacheDataFile;
+    }
+
+    /**
+     * Returns true if the active filter of the company list should be kept when companies are added or edited,
+     * instead of showing all companies again.
+     */
+    public boolean isKeepFilterOnChange() {
+        return keepFilterOnChange;
+    }
+
+    public void setKeepFilterOnChange(boolean keepFilterOnChange) {
+        this.keepFilterOnChange = keepFilterOnChange;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -47,12 +111,18 @@ public class Config {
 
         Config otherConfig = (Config) other;
         return Objects.equals(logLevel, otherConfig.logLevel)
-                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath)
+                && prettyPrintDataFile == otherConfig.prettyPrintDataFile
+                && dataFileBackupCount == otherConfig.dataFileBackupCount
+                && journalDataFile == otherConfig.journalDataFile
+                && cacheDataFile == otherConfig.cacheDataFile
+                && keepFilterOnChange == otherConfig.keepFilterOnChange;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, prettyPrintDataFile, dataFileBackupCount, journalDataFile,
+                cacheDataFile, keepFilterOnChange);
     }
 
     @Override
@@ -60,6 +130,11 @@ public class Config {
         return new ToStringBuilder(this)
                 .add("logLevel", logLevel)
                 .add("userPrefsFilePath", userPrefsFilePath)
+                .add("prettyPrintDataFile", prettyPrintDataFile)
+                .add("dataFileBackupCount", dataFileBackupCount)
+                .add("journalDataFile", journalDataFile)
+                .add("cacheDataFile", cacheDataFile)
+                .add("keepFilterOnChange", keepFilterOnChange)
                 .toString();
     }
 
@@ -0,0 +1,180 @@
+package seedu.address.commons.core.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+
+/**
+ * An immutable list of distinct indices in ascending order, stored as the inclusive ranges they form.
+ * Only the ranges are kept, so a selection like {@code 1-200000} takes constant space, and each {@code Index}
+ * is created only when it is read.
+ */
+public class IndexRanges extends AbstractList<Index> {
+
+    // zero-based, in ascending order, and neither overlapping nor adjacent
+    private final int[] starts;
+    private final int[] ends;
+    // the number of indices in the ranges before each range
+    private final int[] offsets;
+    private final int size;
+
+    /**
+     * Creates a list of the indices in the inclusive ranges from {@code zeroBasedStarts} to {@code zeroBasedEnds}.
+     * The ranges must be in ascending order and must not overlap.
+     */
+    public IndexRanges(int[] zeroBasedStarts, int[] zeroBasedEnds) {
+        requireNonNull(zeroBasedStarts);
+        requireNonNull(zeroBasedEnds);
+        if (zeroBasedStarts.length != zeroBasedEnds.length) {
+            throw new IllegalArgumentException("Every range must have a start and an end");
+        }
+
+        int rangeCount = 0;
+        int[] mergedStarts = new int[zeroBasedStarts.length];
+        int[] mergedEnds = new int[zeroBasedEnds.length];
+        for (int i = 0; i < zeroBasedStarts.length; i++) {
+            int start = zeroBasedStarts[i];
+            int end = zeroBasedEnds[i];
+            if (start < 0 || end < start) {
+                throw new IndexOutOfBoundsException();
+            }
+            if (rangeCount > 0 && start <= mergedEnds[rangeCount - 1]) {
+                throw new IllegalArgumentException("Ranges must be in ascending order and must not overlap");
+            }
+
+            if (rangeCount > 0 && start == mergedEnds[rangeCount - 1] + 1) {
+                mergedEnds[rangeCount - 1] = end;
+            } else {
+                mergedStarts[rangeCount] = start;
+                mergedEnds[rangeCount] = end;
+                rangeCount++;
+            }
+        }
+
+        starts = Arrays.copyOf(mergedStarts, rangeCount);
+        ends = Arrays.copyOf(mergedEnds, rangeCount);
+        offsets = new int[rangeCount];
+        int count = 0;
+        for (int i = 0; i < rangeCount; i++) {
+            offsets[i] = count;
+            count = Math.addExact(count, ends[i] - starts[i] + 1);
+        }
+        size = count;
+    }
+
+    /**
+     * Returns a list of the distinct indices in {@code indices}, in ascending order.
+     */
+    public static IndexRanges copyOf(Collection<Index> indices) {
+        requireNonNull(indices);
+        if (indices instanceof IndexRanges) {
+            return (IndexRanges) indices;
+        }
+
+        int[] zeroBasedIndices = indices.stream().mapToInt(Index::getZeroBased).sorted().distinct().toArray();
+        int[] zeroBasedStarts = new int[zeroBasedIndices.length];
+        int[] zeroBasedEnds = new int[zeroBasedIndices.length];
+        int rangeCount = 0;
+        for (int zeroBasedIndex : zeroBasedIndices) {
+            if (rangeCount > 0 && zeroBasedIndex == zeroBasedEnds[rangeCount - 1] + 1) {
+                zeroBasedEnds[rangeCount - 1] = zeroBasedIndex;
+            } else {
+                zeroBasedStarts[rangeCount] = zeroBasedIndex;
+                zeroBasedEnds[rangeCount] = zeroBasedIndex;
+                rangeCount++;
+            }
+        }
+        return new IndexRanges(Arrays.copyOf(zeroBasedStarts, rangeCount), Arrays.copyOf(zeroBasedEnds, rangeCount));
+    }
+
+    /**
+     * Returns the number of ranges the indices form.
+     */
+    public int getRangeCount() {
+        return starts.length;
+    }
+
+    /**
+     * Returns the smallest index in the list that is greater than or equal to {@code index}, if there is one.
+     */
+    public Optional<Index> ceiling(Index index) {
+        requireNonNull(index);
+        int zeroBasedIndex = index.getZeroBased();
+        int range = Arrays.binarySearch(ends, zeroBasedIndex);
+        if (range < 0) {
+            // the first range that ends after the index
+            range = -range - 1;
+        }
+        if (range == ends.length) {
+            return Optional.empty();
+        }
+        return Optional.of(Index.fromZeroBased(Math.max(starts[range], zeroBasedIndex)));
+    }
+
+    @Override
+    public Index get(int position) {
+        if (position < 0 || position >= size) {
+            throw new IndexOutOfBoundsException(position);
+        }
+        int range = Arrays.binarySearch(offsets, position);
+        if (range < 0) {
+            // the range whose offset is the greatest below the position
+            range = -range - 2;
+        }
+        return Index.fromZeroBased(starts[range] + position - offsets[range]);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean contains(Object object) {
+        if (!(object instanceof Index)) {
+            return false;
+        }
+        int zeroBasedIndex = ((Index) object).getZeroBased();
+        int range = Arrays.binarySearch(starts, zeroBasedIndex);
+        if (range >= 0) {
+            return true;
+        }
+        // the range whose start is the greatest below the index
+        range = -range - 2;
+        return range >= 0 && zeroBasedIndex <= ends[range];
+    }
+
+    @Override
+    public Iterator<Index> iterator() {
+        return new Iterator<>() {
+            private int range = 0;
+            private long next = starts.length == 0 ? 0 : starts[0];
+
+            @Override
+            public boolean hasNext() {
+                return range < starts.length;
+            }
+
+            @Override
+            public Index next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                Index index = Index.fromZeroBased((int) next);
+                if (next == ends[range]) {
+                    range++;
+                    next = range < starts.length ? starts[range] : 0;
+                } else {
+                    next++;
+                }
+                return index;
+            }
+        };
+    }
+
+}
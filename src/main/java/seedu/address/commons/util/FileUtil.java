@@ -1,17 +1,46 @@
 package seedu.address.commons.util;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * Writes and reads files
  */
 public class FileUtil {
 
+    /** Files at least this large are memory-mapped by {@link #openForReading(Path)}. */
+    static final long MAPPING_THRESHOLD = 1 << 20;
+
     private static final String CHARSET = "UTF-8";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    private static final boolean IS_WINDOWS = System.getProperty("os.name", "").startsWith("Windows");
+
+    /** Releases a mapping before it is garbage collected, if the JVM allows it. */
+    private static final Optional<Consumer<ByteBuffer>> MAPPING_RELEASER = findMappingReleaser();
+
+    /**
+     * Writes content to an output stream. The stream may be closed by the writer.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        void writeTo(OutputStream out) throws IOException;
+    }
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -72,12 +101,181 @@ public class FileUtil {
         return new String(Files.readAllBytes(file), CHARSET);
     }
 
+    /**
+     * Returns a stream over the contents of {@code file}, which must exist.
+     * Files of at least {@link #MAPPING_THRESHOLD} bytes are memory-mapped, so reading them does not copy the
+     * whole file into the heap. Smaller files are read through the file's channel, as mapping them costs more
+     * than it saves.
+     * Closing the stream releases the file, after which it can be replaced or truncated. As a mapping is otherwise
+     * only released when it is garbage collected, and a live mapping prevents the file from being replaced on
+     * Windows, files are only mapped on Windows if the mapping can be released explicitly.
+     */
+    public static InputStream openForReading(Path file) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            long size = channel.size();
+            if (size < MAPPING_THRESHOLD || size > Integer.MAX_VALUE
+                    || (!MAPPING_RELEASER.isPresent() && IS_WINDOWS)) {
+                return Channels.newInputStream(channel);
+            }
+
+            // the mapping stays valid after the channel is closed
+            MappedByteBuffer mapping = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            channel.close();
+            return new MappedInputStream(mapping);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
     /**
      * Writes given string to a file.
      * Will create the file if it does not exist yet.
+     *
+     * @see #writeAtomically(Path, ContentWriter)
      */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        writeAtomically(file, out -> out.write(content.getBytes(CHARSET)));
+    }
+
+    /**
+     * Replaces the contents of {@code file} with what {@code writer} writes, creating the file and its missing
+     * parent directories if needed.
+     * The content is written to a temporary file next to {@code file}, forced to disk, and then moved over
+     * {@code file}, so a failed or interrupted write leaves the previous contents of {@code file} intact.
+     */
+    public static void writeAtomically(Path file, ContentWriter writer) throws IOException {
+        createParentDirsOfFile(file);
+        Path directory = file.toAbsolutePath().getParent();
+        Path tempFile = Files.createTempFile(directory, file.getFileName().toString(), TEMP_FILE_SUFFIX);
+        try {
+            try (OutputStream out = Files.newOutputStream(tempFile)) {
+                writer.writeTo(out);
+            }
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE)) {
+                channel.force(true);
+            }
+            moveReplacing(tempFile, file);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    /**
+     * Appends {@code content} to the end of {@code file}, which must exist, and forces it to disk.
+     */
+    public static void appendToFile(Path file, byte[] content) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(content);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+    }
+
+    /**
+     * Discards everything in {@code file}, which must exist, after its first {@code length} bytes.
+     */
+    public static void truncateFile(Path file, long length) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.truncate(length);
+            channel.force(false);
+        }
+    }
+
+    private static void moveReplacing(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Returns a function that unmaps a mapped {@code ByteBuffer} at once, which the JDK only supports through
+     * {@code sun.misc.Unsafe}, or an empty {@code Optional} if that is not available.
+     */
+    private static Optional<Consumer<ByteBuffer>> findMappingReleaser() {
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field unsafeField = unsafeClass.getDeclaredField("theUnsafe");
+            unsafeField.setAccessible(true);
+            Object unsafe = unsafeField.get(null);
+            Method invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+            return Optional.of(buffer -> {
+                try {
+                    invokeCleaner.invoke(unsafe, buffer);
+                } catch (ReflectiveOperationException e) {
+                    // the mapping is then released when it is garbage collected
+                }
+            });
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * An {@code InputStream} that reads the remaining bytes of a memory-mapped file, and releases the mapping
+     * when closed.
+     */
+    private static class MappedInputStream extends InputStream {
+        /** The mapping, or null once the stream is closed, as the mapping must not be read once released. */
+        private MappedByteBuffer buffer;
+
+        MappedInputStream(MappedByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() throws IOException {
+            ByteBuffer buffer = getBuffer();
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) throws IOException {
+            ByteBuffer buffer = getBuffer();
+            if (length == 0) {
+                return 0;
+            }
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int readLength = Math.min(length, buffer.remaining());
+            buffer.get(bytes, offset, readLength);
+            return readLength;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            ByteBuffer buffer = getBuffer();
+            int skipLength = (int) Math.max(0, Math.min(n, buffer.remaining()));
+            buffer.position(buffer.position() + skipLength);
+            return skipLength;
+        }
+
+        @Override
+        public int available() throws IOException {
+            return getBuffer().remaining();
+        }
+
+        @Override
+        public void close() {
+            if (buffer != null) {
+                MappedByteBuffer releasedBuffer = buffer;
+                buffer = null;
+                MAPPING_RELEASER.ifPresent(releaser -> releaser.accept(releasedBuffer));
+            }
+        }
+
+        private ByteBuffer getBuffer() throws IOException {
+            if (buffer == null) {
+                throw new IOException("Stream closed");
+            }
+            return buffer;
+        }
     }
 
 }
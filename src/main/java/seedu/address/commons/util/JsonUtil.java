@@ -3,6 +3,8 @@ package seedu.address.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
@@ -11,6 +13,8 @@ import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
@@ -32,6 +36,8 @@ public class JsonUtil {
 
     private static ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
             .configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false)
+            // streamed writes leave flushing to the generator's own buffering
+            .configure(SerializationFeature.FLUSH_AFTER_WRITE_VALUE, false)
             .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
             .setVisibility(PropertyAccessor.ALL, JsonAutoDetect.Visibility.NONE)
             .setVisibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY)
@@ -45,7 +51,9 @@ public class JsonUtil {
 
     static <T> T deserializeObjectFromJsonFile(Path jsonFile, Class<T> classOfObjectToDeserialize)
             throws IOException {
-        return fromJsonString(FileUtil.readFromFile(jsonFile), classOfObjectToDeserialize);
+        try (InputStream in = FileUtil.openForReading(jsonFile)) {
+            return objectMapper.readValue(in, classOfObjectToDeserialize);
+        }
     }
 
     /**
@@ -92,6 +100,37 @@ public class JsonUtil {
     }
 
 
+    /**
+     * Returns a streaming parser over the JSON content of {@code filePath}.
+     * Values read through the parser, e.g. with {@link JsonParser#readValueAs(Class)}, are bound with the same
+     * settings as {@link #readJsonFile(Path, Class)}. The caller is responsible for closing the parser.
+     * The file is streamed, and large files are memory-mapped, so it is never read into the heap as a whole, see
+     * {@link FileUtil#openForReading(Path)}.
+     *
+     * @param filePath cannot be null.
+     * @throws IOException if the file cannot be opened.
+     */
+    public static JsonParser createJsonParser(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        return objectMapper.getFactory().createParser(FileUtil.openForReading(filePath));
+    }
+
+    /**
+     * Returns a streaming generator that writes JSON to {@code out}, indented if {@code isPrettyPrinted}.
+     * Values written through the generator, e.g. with {@link JsonGenerator#writeObject(Object)}, are serialized
+     * with the same settings as {@link #saveJsonFile(Object, Path)}. Closing the generator also closes {@code out}.
+     *
+     * @param out cannot be null.
+     */
+    public static JsonGenerator createJsonGenerator(OutputStream out, boolean isPrettyPrinted) throws IOException {
+        requireNonNull(out);
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+        if (isPrettyPrinted) {
+            generator.useDefaultPrettyPrinter();
+        }
+        return generator;
+    }
+
     /**
      * Converts a given string representation of a JSON data to instance of a class
      * @param <T> The generic type to create an instance of
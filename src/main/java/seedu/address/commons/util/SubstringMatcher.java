@@ -0,0 +1,177 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+
+/**
+ * Matches text against a fixed set of keywords, testing whether the text contains any of them, ignoring case.
+ * The keywords are lower-cased once when the matcher is created, while the text is lower-cased a character at a
+ * time as it is read, so matching allocates no objects.
+ * A few keywords are each searched for in turn, while many keywords are compiled into an Aho-Corasick automaton
+ * that finds any of them in a single pass over the text.
+ */
+public class SubstringMatcher {
+
+    /** The number of keywords from which an automaton is used rather than searching for each keyword. */
+    static final int AUTOMATON_THRESHOLD = 4;
+
+    private final String[] keywords;
+    private final boolean hasEmptyKeyword;
+
+    // The automaton, if one is used. Its columns are the distinct characters of the keywords, in sorted order.
+    private final char[] alphabet;
+    private final int[][] transitions;
+    private final boolean[] isMatch;
+
+    /**
+     * Creates a matcher of {@code keywords}.
+     */
+    public SubstringMatcher(Collection<String> keywords) {
+        requireNonNull(keywords);
+        this.keywords = keywords.stream().map(SubstringMatcher::toLowerCase).distinct().toArray(String[]::new);
+        hasEmptyKeyword = Arrays.stream(this.keywords).anyMatch(String::isEmpty);
+
+        if (this.keywords.length < AUTOMATON_THRESHOLD || hasEmptyKeyword) {
+            alphabet = null;
+            transitions = null;
+            isMatch = null;
+            return;
+        }
+
+        alphabet = getAlphabet(this.keywords);
+        int maxStateCount = 1 + Arrays.stream(this.keywords).mapToInt(String::length).sum();
+        int[][] trie = new int[maxStateCount][alphabet.length];
+        boolean[] isKeywordEnd = new boolean[maxStateCount];
+        int stateCount = buildTrie(trie, isKeywordEnd);
+        transitions = Arrays.copyOf(trie, stateCount);
+        isMatch = Arrays.copyOf(isKeywordEnd, stateCount);
+        completeTransitions();
+    }
+
+    /**
+     * Returns true if {@code text} contains any of the keywords, ignoring case.
+     */
+    public boolean matches(CharSequence text) {
+        if (hasEmptyKeyword) {
+            return true;
+        }
+
+        if (transitions == null) {
+            for (String keyword : keywords) {
+                if (containsIgnoringCase(text, keyword)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        int state = 0;
+        for (int i = 0; i < text.length(); i++) {
+            int column = Arrays.binarySearch(alphabet, Character.toLowerCase(text.charAt(i)));
+            state = column < 0 ? 0 : transitions[state][column];
+            if (isMatch[state]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns {@code text} with each character lower-cased on its own, the same way the text being matched is.
+     */
+    private static String toLowerCase(String text) {
+        char[] characters = text.toCharArray();
+        for (int i = 0; i < characters.length; i++) {
+            characters[i] = Character.toLowerCase(characters[i]);
+        }
+        return new String(characters);
+    }
+
+    private static boolean containsIgnoringCase(CharSequence text, String lowerCaseKeyword) {
+        for (int start = 0; start <= text.length() - lowerCaseKeyword.length(); start++) {
+            int length = 0;
+            while (length < lowerCaseKeyword.length()
+                    && Character.toLowerCase(text.charAt(start + length)) == lowerCaseKeyword.charAt(length)) {
+                length++;
+            }
+            if (length == lowerCaseKeyword.length()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static char[] getAlphabet(String[] keywords) {
+        char[] characters = String.join("", keywords).toCharArray();
+        Arrays.sort(characters);
+        int distinctCount = 0;
+        for (char character : characters) {
+            if (distinctCount == 0 || characters[distinctCount - 1] != character) {
+                characters[distinctCount++] = character;
+            }
+        }
+        return Arrays.copyOf(characters, distinctCount);
+    }
+
+    /**
+     * Fills {@code trie} with the trie of the keywords, rooted at state 0, with -1 for missing transitions.
+     * Returns the number of states in the trie.
+     */
+    private int buildTrie(int[][] trie, boolean[] isKeywordEnd) {
+        for (int[] row : trie) {
+            Arrays.fill(row, -1);
+        }
+
+        int stateCount = 1;
+        for (String keyword : keywords) {
+            int state = 0;
+            for (int i = 0; i < keyword.length(); i++) {
+                int column = Arrays.binarySearch(alphabet, keyword.charAt(i));
+                if (trie[state][column] == -1) {
+                    trie[state][column] = stateCount++;
+                }
+                state = trie[state][column];
+            }
+            isKeywordEnd[state] = true;
+        }
+        return stateCount;
+    }
+
+    /**
+     * Replaces the missing transitions of the trie with those of the longest proper suffix that is in the trie,
+     * turning it into an automaton that never backtracks. A state also matches if its suffix does.
+     */
+    private void completeTransitions() {
+        int[] failures = new int[transitions.length];
+        Deque<Integer> statesToComplete = new ArrayDeque<>();
+        for (int column = 0; column < alphabet.length; column++) {
+            int child = transitions[0][column];
+            if (child == -1) {
+                transitions[0][column] = 0;
+            } else {
+                failures[child] = 0;
+                statesToComplete.add(child);
+            }
+        }
+
+        // breadth-first, so that the transitions of a state's suffix are complete before its own
+        while (!statesToComplete.isEmpty()) {
+            int state = statesToComplete.remove();
+            for (int column = 0; column < alphabet.length; column++) {
+                int child = transitions[state][column];
+                if (child == -1) {
+                    transitions[state][column] = transitions[failures[state]][column];
+                } else {
+                    failures[child] = transitions[failures[state]][column];
+                    isMatch[child] |= isMatch[failures[child]];
+                    statesToComplete.add(child);
+                }
+            }
+        }
+    }
+
+}
@@ -1,12 +1,15 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.function.Consumer;
 
+import javafx.beans.property.ReadOnlyObjectProperty;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.MetricsCalculator;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.company.Company;
 
@@ -30,6 +33,13 @@ public interface Logic {
      */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns the metrics of the AddressBook, which are kept up to date as it changes.
+     *
+     * @see seedu.address.model.Model#getMetrics()
+     */
+    ReadOnlyObjectProperty<MetricsCalculator.MetricsData> getMetrics();
+
     /** Returns an unmodifiable view of the filtered list of companies */
     ObservableList<Company> getFilteredCompanyList();
 
@@ -47,4 +57,15 @@ public interface Logic {
      * Set the user prefs' GUI settings.
      */
     void setGuiSettings(GuiSettings guiSettings);
+
+    /**
+     * Sets the handler that receives an error message whenever saving the address book fails.
+     * Saves happen in the background, so the handler may be called from a thread other than the caller's.
+     */
+    void setSaveFailureHandler(Consumer<String> saveFailureHandler);
+
+    /**
+     * Blocks until all pending saves of the address book have been written to storage.
+     */
+    void flushPendingSaves();
 }
@@ -3,8 +3,10 @@ package seedu.address.logic;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
+import javafx.beans.property.ReadOnlyObjectProperty;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
@@ -13,10 +15,13 @@ import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.MetricsCalculator;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.company.Company;
 import seedu.address.storage.Storage;
+import seedu.address.storage.WriteBehindSaver;
 
 /**
  * The main LogicManager of the app.
@@ -30,16 +35,33 @@ public class LogicManager implements Logic {
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
-    private final Storage storage;
+    private final WriteBehindSaver saver;
     private final AddressBookParser addressBookParser;
 
+    /** Version of the address book that was last handed to {@code saver}. */
+    private long lastSavedVersion;
+
+    private volatile Consumer<String> saveFailureHandler = logger::warning;
+
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * Address book changes are saved to {@code storage} on a background thread.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, new WriteBehindSaver(storage));
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} that saves address book changes
+     * through {@code saver}.
+     */
+    public LogicManager(Model model, WriteBehindSaver saver) {
         this.model = model;
-        this.storage = storage;
+        this.saver = saver;
         addressBookParser = new AddressBookParser();
+
+        saver.setFailureHandler(this::handleSaveFailure);
+        lastSavedVersion = model.getAddressBook().getVersion();
     }
 
     @Override
@@ -50,22 +72,47 @@ public class LogicManager implements Logic {
         Command command = addressBookParser.parseCommand(commandText);
         commandResult = command.execute(model);
 
-        try {
-            storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
-        } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+        ReadOnlyAddressBook addressBook = model.getAddressBook();
+        if (addressBook.getVersion() != lastSavedVersion) {
+            lastSavedVersion = addressBook.getVersion();
+            // Companies are immutable, so a shallow copy is a consistent snapshot for the saving thread
+            saver.requestSave(new AddressBook(addressBook));
         }
 
         return commandResult;
     }
 
+    @Override
+    public void setSaveFailureHandler(Consumer<String> saveFailureHandler) {
+        this.saveFailureHandler = saveFailureHandler;
+    }
+
+    @Override
+    public void flushPendingSaves() {
+        saver.flush();
+    }
+
+    /**
+     * Reports a failed background save of the address book to {@code saveFailureHandler}.
+     */
+    private void handleSaveFailure(IOException e) {
+        if (e instanceof AccessDeniedException) {
+            saveFailureHandler.accept(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()));
+        } else {
+            saveFailureHandler.accept(String.format(FILE_OPS_ERROR_FORMAT, e.getMessage()));
+        }
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
     }
 
+    @Override
+    public ReadOnlyObjectProperty<MetricsCalculator.MetricsData> getMetrics() {
+        return model.getMetrics();
+    }
+
     @Override
     public ObservableList<Company> getFilteredCompanyList() {
         return model.getFilteredCompanyList();
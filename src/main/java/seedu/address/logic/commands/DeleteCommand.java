@@ -2,12 +2,11 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
 import java.util.stream.Collectors;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexRanges;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -43,9 +42,9 @@ public class DeleteCommand extends Command {
      * @param targetIndices List of multiple indices
      */
     public DeleteCommand(List<Index> targetIndices) {
-        // Defensive copy + normalize ascending for display; we’ll delete in descending later.
-        this.targetIndices = new ArrayList<>(requireNonNull(targetIndices));
-        this.targetIndices.sort(Comparator.comparingInt(Index::getZeroBased));
+        // Keep the distinct indices in ascending order, which is also the order of the success message.
+        // Indices parsed from ranges are already kept as ascending ranges, so they are not copied.
+        this.targetIndices = IndexRanges.copyOf(requireNonNull(targetIndices));
     }
 
     /**
@@ -64,11 +63,9 @@ public class DeleteCommand extends Command {
         final List<Company> lastShownList = model.getFilteredCompanyList();
         final int listSize = lastShownList.size();
 
-        // Validate all indices first (fail-fast if any is out of bounds)
-        for (Index idx : targetIndices) {
-            if (idx.getZeroBased() >= listSize) {
-                throw new CommandException(Messages.MESSAGE_INVALID_COMPANY_DISPLAYED_INDEX);
-            }
+        // Validate all indices first; they are in ascending order, so they are all in bounds if the largest is
+        if (!targetIndices.isEmpty() && targetIndices.get(targetIndices.size() - 1).getZeroBased() >= listSize) {
+            throw new CommandException(Messages.MESSAGE_INVALID_COMPANY_DISPLAYED_INDEX);
         }
 
         // Ask user before destructive action
@@ -89,13 +86,8 @@ public class DeleteCommand extends Command {
                 .map(i -> lastShownList.get(i.getZeroBased()))
                 .toList();
 
-        // Delete in descending index order to avoid shifting
-        targetIndices.stream()
-                .sorted((a, b) -> Integer.compare(b.getZeroBased(), a.getZeroBased()))
-                .forEach(idx -> {
-                    Company c = lastShownList.get(idx.getZeroBased());
-                    model.deleteCompany(c);
-                });
+        // Delete all at once, so the list is compacted once instead of shifted for every company
+        model.deleteCompanies(companiesToDelete);
 
         // Build user feedback: comma-separated formatted names
         String formatted = companiesToDelete.stream()
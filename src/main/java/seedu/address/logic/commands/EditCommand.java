@@ -9,12 +9,12 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_REMARK;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_STATUS;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 import static seedu.address.logic.parser.IndexParser.MESSAGE_INDEX_OUT_OF_RANGE;
-import static seedu.address.model.Model.PREDICATE_SHOW_ALL_COMPANIES;
 
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -22,6 +22,7 @@ import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexRanges;
 import seedu.address.commons.util.CollectionUtil;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -76,11 +77,13 @@ public class EditCommand extends Command {
 
     private static final Logger logger = LogsCenter.getLogger(EditCommand.class);
 
-    private final List<Index> indices;
+    private final IndexRanges indices;
     private final EditCompanyDescriptor editCompanyDescriptor;
 
     /**
      * Creates an EditCommand to edit companies (single or batch).
+     * The companies are edited in ascending order of their indices, whatever order the indices are given in,
+     * so an out-of-range index or a duplicate company is reported for the smallest index that has one.
      *
      * @param indices list of indices of companies in the filtered company list to edit
      * @param editCompanyDescriptor details to edit the companies with
@@ -90,7 +93,8 @@ public class EditCommand extends Command {
         requireNonNull(editCompanyDescriptor);
         assert !indices.isEmpty() : "Indices list cannot be empty";
 
-        this.indices = new ArrayList<>(indices);
+        // Indices parsed from ranges are kept as ranges, so even a huge range is not expanded
+        this.indices = IndexRanges.copyOf(indices);
         this.editCompanyDescriptor = new EditCompanyDescriptor(editCompanyDescriptor);
     }
 
@@ -118,13 +122,13 @@ public class EditCommand extends Command {
     private CommandResult executeSingleEdit(Model model) throws CommandException {
         List<Company> lastShownList = model.getFilteredCompanyList();
         validateIndicesRange(lastShownList.size());
-        validateNoDuplicateCompanies(model, lastShownList);
         Index singleIndex = indices.get(0);
         Company companyToEdit = lastShownList.get(singleIndex.getZeroBased());
         Company editedCompany = createEditedCompany(companyToEdit, editCompanyDescriptor);
+        validateNoDuplicateCompanies(model, Map.of(companyToEdit, editedCompany));
 
         model.setCompany(companyToEdit, editedCompany);
-        model.updateFilteredCompanyList(PREDICATE_SHOW_ALL_COMPANIES);
+        model.updateFilteredCompanyListAfterChange();
         return new CommandResult(MESSAGE_EDIT_SUCCESS_SINGLE);
     }
 
@@ -145,27 +149,22 @@ public class EditCommand extends Command {
         // Validate that editing in batch is allowed for all fields except name
         validateBatchEditFieldsAllowed();
 
-        // Validate that editing won't create duplicate companies
-        validateNoDuplicateCompanies(model, lastShownList);
-
         // Collect all companies to edit BEFORE making any modifications
         // This prevents issues where modifying a company (e.g., changing status) causes
         // the filtered list to update mid-loop, shifting indices and skipping companies
-        List<Company> companiesToEdit = new ArrayList<>();
-        List<Company> editedCompanies = new ArrayList<>();
+        Map<Company, Company> editedCompanies = new LinkedHashMap<>();
         for (Index index : indices) {
             Company companyToEdit = lastShownList.get(index.getZeroBased());
-            Company editedCompany = createEditedCompany(companyToEdit, editCompanyDescriptor);
-            companiesToEdit.add(companyToEdit);
-            editedCompanies.add(editedCompany);
+            editedCompanies.put(companyToEdit, createEditedCompany(companyToEdit, editCompanyDescriptor));
         }
 
-        // Perform all edits after collecting all companies
-        for (int i = 0; i < companiesToEdit.size(); i++) {
-            model.setCompany(companiesToEdit.get(i), editedCompanies.get(i));
-        }
+        // Validate that editing won't create duplicate companies
+        validateNoDuplicateCompanies(model, editedCompanies);
+
+        // Perform all edits at once, so the list is updated in one pass with a single change
+        model.setCompanies(editedCompanies);
 
-        model.updateFilteredCompanyList(PREDICATE_SHOW_ALL_COMPANIES);
+        model.updateFilteredCompanyListAfterChange();
         return new CommandResult(String.format(MESSAGE_EDIT_SUCCESS_MULTIPLE, indices.size()));
     }
 
@@ -176,11 +175,12 @@ public class EditCommand extends Command {
      * @throws CommandException if any index is out of range
      */
     private void validateIndicesRange(int listSize) throws CommandException {
-        for (Index index : indices) {
-            if (index.getZeroBased() >= listSize) {
-                throw new CommandException(String.format(MESSAGE_INDEX_OUT_OF_RANGE,
-                        index.getOneBased(), listSize));
-            }
+        // The indices are in ascending order, so they are all in range if the largest one is
+        Index largestIndex = indices.get(indices.size() - 1);
+        if (largestIndex.getZeroBased() >= listSize) {
+            Index firstIndexOutOfRange = indices.ceiling(Index.fromZeroBased(listSize)).orElse(largestIndex);
+            throw new CommandException(String.format(MESSAGE_INDEX_OUT_OF_RANGE,
+                    firstIndexOutOfRange.getOneBased(), listSize));
         }
     }
 
@@ -188,13 +188,14 @@ public class EditCommand extends Command {
      * Validates that batch editing will not create duplicate companies.
      *
      * @param model the model containing the company data
-     * @param lastShownList the current filtered company list
+     * @param editedCompanies the companies to edit, each mapped to the company it is edited into
      * @throws CommandException if any edit would create a duplicate company
      */
-    private void validateNoDuplicateCompanies(Model model, List<Company> lastShownList) throws CommandException {
-        for (Index index : indices) {
-            Company companyToEdit = lastShownList.get(index.getZeroBased());
-            Company editedCompany = createEditedCompany(companyToEdit, editCompanyDescriptor);
+    private void validateNoDuplicateCompanies(Model model, Map<Company, Company> editedCompanies)
+            throws CommandException {
+        for (Map.Entry<Company, Company> edit : editedCompanies.entrySet()) {
+            Company companyToEdit = edit.getKey();
+            Company editedCompany = edit.getValue();
 
             if (!companyToEdit.isSameCompany(editedCompany) && model.hasCompany(editedCompany)) {
                 throw new CommandException(MESSAGE_DUPLICATE_COMPANY);
@@ -1,9 +1,7 @@
 package seedu.address.logic.parser;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Tokenizes arguments string of the form: {@code preamble <prefix>value <prefix>value ...}<br>
@@ -15,6 +13,9 @@ import java.util.stream.Collectors;
  */
 public class ArgumentTokenizer {
 
+    /** The prefix that the preamble, and the end of the arguments string, are recorded with. */
+    private static final Prefix PREAMBLE_PREFIX = new Prefix("");
+
     /**
      * Tokenizes an arguments string and returns an {@code ArgumentMultimap} object that maps prefixes to their
      * respective argument values. Only the given prefixes will be recognized in the arguments string.
@@ -29,72 +30,56 @@ public class ArgumentTokenizer {
     }
 
     /**
-     * Finds all zero-based prefix positions in the given arguments string.
+     * Finds all zero-based prefix positions in the given arguments string, in order of position, in a single
+     * pass over it. An occurrence of a prefix is valid if there is a whitespace before it.
+     * If several prefixes occur at the same position, the longest of them is taken.
+     *
+     * E.g if {@code argsString} = "e/hip/900" and the prefixes are "e/" and "p/", no prefix is found, as there
+     * is no whitespace before either of them. However, if {@code argsString} = "e/hi p/900", "p/" is found at 5.
      *
      * @param argsString Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
      * @param prefixes   Prefixes to find in the arguments string
      * @return           List of zero-based prefix positions in the given arguments string
      */
     private static List<PrefixPosition> findAllPrefixPositions(String argsString, Prefix... prefixes) {
-        return Arrays.stream(prefixes)
-                .flatMap(prefix -> findPrefixPositions(argsString, prefix).stream())
-                .collect(Collectors.toList());
-    }
-
-    /**
-     * {@see findAllPrefixPositions}
-     */
-    private static List<PrefixPosition> findPrefixPositions(String argsString, Prefix prefix) {
         List<PrefixPosition> positions = new ArrayList<>();
-
-        int prefixPosition = findPrefixPosition(argsString, prefix.getPrefix(), 0);
-        while (prefixPosition != -1) {
-            PrefixPosition extendedPrefix = new PrefixPosition(prefix, prefixPosition);
-            positions.add(extendedPrefix);
-            prefixPosition = findPrefixPosition(argsString, prefix.getPrefix(), prefixPosition);
+        for (int i = 1; i < argsString.length(); i++) {
+            if (argsString.charAt(i - 1) != ' ') {
+                continue;
+            }
+
+            Prefix foundPrefix = null;
+            for (Prefix prefix : prefixes) {
+                String prefixString = prefix.getPrefix();
+                if (argsString.startsWith(prefixString, i)
+                        && (foundPrefix == null || prefixString.length() > foundPrefix.getPrefix().length())) {
+                    foundPrefix = prefix;
+                }
+            }
+            if (foundPrefix != null) {
+                positions.add(new PrefixPosition(foundPrefix, i));
+            }
         }
-
         return positions;
     }
 
-    /**
-     * Returns the index of the first occurrence of {@code prefix} in
-     * {@code argsString} starting from index {@code fromIndex}. An occurrence
-     * is valid if there is a whitespace before {@code prefix}. Returns -1 if no
-     * such occurrence can be found.
-     *
-     * E.g if {@code argsString} = "e/hip/900", {@code prefix} = "p/" and
-     * {@code fromIndex} = 0, this method returns -1 as there are no valid
-     * occurrences of "p/" with whitespace before it. However, if
-     * {@code argsString} = "e/hi p/900", {@code prefix} = "p/" and
-     * {@code fromIndex} = 0, this method returns 5.
-     */
-    private static int findPrefixPosition(String argsString, String prefix, int fromIndex) {
-        int prefixIndex = argsString.indexOf(" " + prefix, fromIndex);
-        return prefixIndex == -1 ? -1
-                : prefixIndex + 1; // +1 as offset for whitespace
-    }
-
     /**
      * Extracts prefixes and their argument values, and returns an {@code ArgumentMultimap} object that maps the
      * extracted prefixes to their respective arguments. Prefixes are extracted based on their zero-based positions in
      * {@code argsString}.
      *
      * @param argsString      Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
-     * @param prefixPositions Zero-based positions of all prefixes in {@code argsString}
+     * @param prefixPositions Zero-based positions of all prefixes in {@code argsString}, in order of position
      * @return                ArgumentMultimap object that maps prefixes to their arguments
      */
     private static ArgumentMultimap extractArguments(String argsString, List<PrefixPosition> prefixPositions) {
 
-        // Sort by start position
-        prefixPositions.sort((prefix1, prefix2) -> prefix1.getStartPosition() - prefix2.getStartPosition());
-
         // Insert a PrefixPosition to represent the preamble
-        PrefixPosition preambleMarker = new PrefixPosition(new Prefix(""), 0);
+        PrefixPosition preambleMarker = new PrefixPosition(PREAMBLE_PREFIX, 0);
         prefixPositions.add(0, preambleMarker);
 
         // Add a dummy PrefixPosition to represent the end of the string
-        PrefixPosition endPositionMarker = new PrefixPosition(new Prefix(""), argsString.length());
+        PrefixPosition endPositionMarker = new PrefixPosition(PREAMBLE_PREFIX, argsString.length());
         prefixPositions.add(endPositionMarker);
 
         // Map prefixes to their argument values (if any)
@@ -119,12 +104,46 @@ public class ArgumentTokenizer {
         Prefix prefix = currentPrefixPosition.getPrefix();
 
         int valueStartPos = currentPrefixPosition.getStartPosition() + prefix.getPrefix().length();
-        String value = argsString.substring(valueStartPos, nextPrefixPosition.getStartPosition());
+        int valueEndPos = nextPrefixPosition.getStartPosition();
 
-        // Remove backslashes escaping valid prefixes throughout the argsString
-        value = value.replaceAll("\\\\(?=\\w/)", "");
+        // Trim by position, which gives the same value as trimming after unescaping as backslashes are not spaces
+        while (valueStartPos < valueEndPos && argsString.charAt(valueStartPos) <= ' ') {
+            valueStartPos++;
+        }
+        while (valueEndPos > valueStartPos && argsString.charAt(valueEndPos - 1) <= ' ') {
+            valueEndPos--;
+        }
+
+        return unescapePrefixes(argsString, valueStartPos, valueEndPos);
+    }
 
-        return value.trim();
+    /**
+     * Returns the part of {@code argsString} from {@code start} to {@code end} without the backslashes that escape
+     * a prefix, i.e. those followed by a word character and a slash.
+     */
+    private static String unescapePrefixes(String argsString, int start, int end) {
+        int backslashPos = argsString.indexOf('\\', start);
+        if (backslashPos == -1 || backslashPos >= end) {
+            return argsString.substring(start, end);
+        }
+
+        StringBuilder value = new StringBuilder(end - start);
+        for (int i = start; i < end; i++) {
+            char c = argsString.charAt(i);
+            boolean isEscapingPrefix = c == '\\' && i + 2 < end
+                    && isWordCharacter(argsString.charAt(i + 1)) && argsString.charAt(i + 2) == '/';
+            if (!isEscapingPrefix) {
+                value.append(c);
+            }
+        }
+        return value.toString();
+    }
+
+    /**
+     * Returns true if {@code c} is a word character, as matched by {@code \w} in a regular expression.
+     */
+    private static boolean isWordCharacter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_';
     }
 
     /**
@@ -3,21 +3,24 @@ package seedu.address.logic.parser;
 import static java.util.Objects.requireNonNull;
 
 import java.util.ArrayList;
-import java.util.HashSet;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
-import java.util.Set;
+import java.util.stream.Collectors;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexRanges;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.logic.parser.exceptions.ParseIndicesException;
 
 /**
- * Parses input arguments and creates a new DeleteCommand object.
+ * Parses indices from user input.
  * Supports:
  * - Single index: "1"
  * - Multiple indices: "1,3,5"
- * Duplicates are ignored (first occurrence kept).
+ * - Ranges of indices: "1-3,5"
+ * Duplicates, including overlapping ranges, are rejected.
  */
 public class IndexParser {
     public static final String MESSAGE_INVALID_INDEX = "Index must be a positive integer: 1, 2, 3...";
@@ -32,14 +35,6 @@ public class IndexParser {
     public static final String MESSAGE_INVALID_RANGE_ORDER =
             "Invalid range: start index (%1$d) cannot be greater than end index (%2$d).";
 
-    /**
-     * Maximum allowed size for an expanded range (inclusive). Prevents accidental OOM.
-     */
-    public static final int MAX_RANGE_SIZE = 10000;
-    public static final String MESSAGE_RANGE_TOO_LARGE = "Range too large: %1$d-%2$d (size %3$d). "
-            + "Please specify a smaller range or use fewer indices (max %4$d).";
-
-
     /**
      * Parses {@code oneBasedIndex} into an {@code Index} and returns it. Leading
      * and trailing whitespaces will be
@@ -57,12 +52,13 @@ public class IndexParser {
     }
 
     /**
-     * Parses comma-separated indices into a {@code List<Index>} without range
+     * Parses comma-separated indices and ranges into a {@code List<Index>} without range
      * validation.
      * Use this when range validation will be done later in the command execution.
+     * The indices are returned in ascending order, kept as the ranges they form rather than one by one.
      *
-     * @param indicesString String containing comma-separated indices (e.g., "1",
-     *                      "1,2,3")
+     * @param indicesString String containing comma-separated indices and ranges (e.g., "1",
+     *                      "1,2,3", "1,5-8")
      * @return List of valid unique indices
      * @throws ParseIndicesException if any index is invalid or duplicate
      */
@@ -75,24 +71,7 @@ public class IndexParser {
         }
 
         String[] indexStrings = trimmedIndices.split(",", -1);
-        List<Index> indexList = new ArrayList<>();
-        Set<Integer> seenIndices = new HashSet<>();
-        List<Index> duplicates = new ArrayList<>();
-        @FunctionalInterface
-        interface Function1<One> {
-            public One apply(One one);
-        }
-
-        Function1<Integer> addIndex = (Integer idx) -> {
-            if (seenIndices.contains(idx)) {
-                duplicates.add(Index.fromOneBased(idx));
-            } else {
-                seenIndices.add(idx);
-                indexList.add(Index.fromOneBased(idx));
-            }
-            return null;
-        };
-
+        List<Range> ranges = new ArrayList<>(indexStrings.length);
         for (String indexString : indexStrings) {
             String trimmedIndexString = indexString.trim();
             if (trimmedIndexString.isEmpty()) {
@@ -100,11 +79,7 @@ public class IndexParser {
             }
 
             if (trimmedIndexString.contains("-")) {
-                Range range = parseRangeToken(trimmedIndexString);
-                for (int i = range.start; i <= range.end; i++) {
-                    int oneBasedIndex = i + 1;
-                    addIndex.apply(oneBasedIndex);
-                }
+                ranges.add(parseRangeToken(trimmedIndexString));
             } else {
                 if (trimmedIndexString.contains(" ")) {
                     throw new ParseIndicesException(MESSAGE_INVALID_INDICES);
@@ -115,22 +90,44 @@ public class IndexParser {
                 } catch (ParseException pe) {
                     throw new ParseIndicesException(MESSAGE_INVALID_INDICES);
                 }
-                int oneBasedIndex = index.getOneBased();
-                addIndex.apply(oneBasedIndex);
+                ranges.add(new Range(index.getZeroBased(), index.getZeroBased()));
             }
+        }
 
+        return mergeRanges(ranges);
+    }
+
+    /**
+     * Merges {@code ranges} into the ranges of the indices they cover, in ascending order.
+     *
+     * @throws ParseIndicesException if any ranges overlap, listing the overlapping parts in ascending order
+     */
+    private static IndexRanges mergeRanges(List<Range> ranges) throws ParseIndicesException {
+        ranges.sort(Comparator.comparingInt((Range range) -> range.start).thenComparingInt(range -> range.end));
+
+        int[] starts = new int[ranges.size()];
+        int[] ends = new int[ranges.size()];
+        int mergedCount = 0;
+        List<Range> overlaps = new ArrayList<>();
+        for (Range range : ranges) {
+            if (mergedCount > 0 && range.start <= ends[mergedCount - 1]) {
+                overlaps.add(new Range(range.start, Math.min(range.end, ends[mergedCount - 1])));
+                ends[mergedCount - 1] = Math.max(range.end, ends[mergedCount - 1]);
+            } else {
+                starts[mergedCount] = range.start;
+                ends[mergedCount] = range.end;
+                mergedCount++;
+            }
         }
 
         // Only duplicate checking gets the specific exception
-        if (!duplicates.isEmpty()) {
+        if (!overlaps.isEmpty()) {
+            overlaps.sort(Comparator.comparingInt((Range range) -> range.start).thenComparingInt(range -> range.end));
             throw new ParseIndicesException(String.format(MESSAGE_DUPLICATE_INDICES,
-                    duplicates.stream()
-                            .sorted((a, b) -> Integer.compare(a.getOneBased(), b.getOneBased()))
-                            .map(index -> String.valueOf(index.getOneBased()))
-                            .collect(java.util.stream.Collectors.joining(", "))));
+                    overlaps.stream().map(Range::toString).collect(Collectors.joining(", "))));
         }
 
-        return indexList;
+        return new IndexRanges(Arrays.copyOf(starts, mergedCount), Arrays.copyOf(ends, mergedCount));
     }
 
     /** Parses a token like "a-b" (inclusive) into a {@link Range}. */
@@ -156,17 +153,10 @@ public class IndexParser {
             throw new ParseIndicesException(String.format(IndexParser.MESSAGE_INVALID_RANGE_ORDER, start + 1, end + 1));
         }
 
-        // prevent expanding extremely large ranges which can cause OutOfMemoryError
-        long size = (long) end - (long) start + 1L;
-        if (size > MAX_RANGE_SIZE) {
-            throw new ParseIndicesException(String.format(MESSAGE_RANGE_TOO_LARGE,
-                    start + 1, end + 1, size, MAX_RANGE_SIZE));
-        }
-
         return new Range(start, end);
     }
 
-    /** Simple inclusive integer range. */
+    /** Simple inclusive range of zero-based indices. */
     private static final class Range {
         final int start;
         final int end;
@@ -175,5 +165,11 @@ public class IndexParser {
             this.start = start;
             this.end = end;
         }
+
+        /** Returns the range as the user would write it, with one-based indices. */
+        @Override
+        public String toString() {
+            return start == end ? String.valueOf(start + 1) : (start + 1) + "-" + (end + 1);
+        }
     }
 }
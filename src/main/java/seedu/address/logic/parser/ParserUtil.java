@@ -39,6 +39,7 @@ public class ParserUtil {
      * Parses comma-separated indices into a {@code List<Index>} without range
      * validation.
      * Use this when range validation will be done later in the command execution.
+     * The indices are returned in ascending order, not in the order they are given in.
      *
      * @param indicesString String containing comma-separated indices (e.g., "1",
      *                      "1,2,3")
@@ -2,11 +2,17 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.company.Company;
+import seedu.address.model.company.CompanyListChange;
+import seedu.address.model.company.IndexedPredicate;
 import seedu.address.model.company.UniqueCompanyList;
 
 /**
@@ -31,11 +37,16 @@ public class AddressBook implements ReadOnlyAddressBook {
     public AddressBook() {}
 
     /**
-     * Creates an AddressBook using the companies in the {@code toBeCopied}
+     * Creates an AddressBook using the companies in the {@code toBeCopied}.
+     * A copy of another {@code AddressBook} keeps its version, as both hold the same data, and its recent changes.
      */
     public AddressBook(ReadOnlyAddressBook toBeCopied) {
         this();
-        resetData(toBeCopied);
+        if (toBeCopied instanceof AddressBook) {
+            companies.setCompanies(((AddressBook) toBeCopied).companies);
+        } else {
+            resetData(toBeCopied);
+        }
     }
 
     //// list overwrite operations
@@ -48,6 +59,15 @@ public class AddressBook implements ReadOnlyAddressBook {
         this.companies.setCompanies(companies);
     }
 
+    /**
+     * Replaces each company that is a key of {@code replacements} with the company it maps to, all at once.
+     * The keys must all exist in the address book.
+     * The company identities after the replacements must not be the same as each other.
+     */
+    public void setCompanies(Map<Company, Company> replacements) {
+        companies.setCompanies(replacements);
+    }
+
     /**
      * Resets the existing data of this {@code AddressBook} with {@code newData}.
      */
@@ -95,6 +115,35 @@ public class AddressBook implements ReadOnlyAddressBook {
         companies.remove(key);
     }
 
+    /**
+     * Removes the companies in {@code keys} from this {@code AddressBook} at once.
+     * They must all exist in the address book.
+     */
+    public void removeCompanies(Collection<Company> keys) {
+        companies.removeAll(keys);
+    }
+
+    /**
+     * Returns the companies in this address book that may satisfy {@code predicate}, as narrowed down by
+     * the company list's indexes, or an empty {@code Optional} if they cannot be narrowed down.
+     *
+     * @see IndexedPredicate#findCandidates(seedu.address.model.company.UniqueCompanyList)
+     */
+    public Optional<Set<Company>> findCandidates(IndexedPredicate predicate) {
+        requireNonNull(predicate);
+        return predicate.findCandidates(companies);
+    }
+
+    /**
+     * Returns the changes made to the companies since the address book was at {@code version}, in the order
+     * they were made, or an empty {@code Optional} if they are not known.
+     *
+     * @see UniqueCompanyList#getChangesSince(long)
+     */
+    public Optional<List<CompanyListChange>> getChangesSince(long version) {
+        return companies.getChangesSince(version);
+    }
+
     //// util methods
 
     @Override
@@ -109,6 +158,11 @@ public class AddressBook implements ReadOnlyAddressBook {
         return companies.asUnmodifiableObservableList();
     }
 
+    @Override
+    public long getVersion() {
+        return companies.getVersion();
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
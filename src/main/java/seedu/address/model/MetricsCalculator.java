@@ -1,55 +1,40 @@
 package seedu.address.model;
 
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.ToLongFunction;
 import java.util.stream.Collectors;
 
 import seedu.address.model.company.Status;
 
 /**
- * Calculates metrics and statistics for company data.
+ * Metrics and statistics for company data.
+ * The metrics of the address book are kept up to date by {@link MetricsTracker}, so all companies are never
+ * scanned to calculate them.
  */
 public class MetricsCalculator {
 
-    private static final List<String> DEFAULT_STATUS_ORDER = Arrays.stream(Status.Stage.values())
+    static final List<String> DEFAULT_STATUS_ORDER = Arrays.stream(Status.Stage.values())
             .map(Status::toUserInputString)
             .map(String::toUpperCase)
             .collect(Collectors.toList());
 
-    private final List<String> statusOrder;
+    private MetricsCalculator() {}
 
     /**
-     * Creates a MetricsCalculator with default status ordering.
+     * Returns the non-zero counts given by {@code countOfStage}, keyed by the upper-cased status of their stage.
      */
-    public MetricsCalculator() {
-        this.statusOrder = DEFAULT_STATUS_ORDER;
-    }
-
-    /**
-     * Calculates metrics for the given address book data.
-     *
-     * @param addressBook The address book containing company data
-     * @return MetricsData object containing calculated statistics
-     */
-    public MetricsData calculateMetrics(ReadOnlyAddressBook addressBook) {
-        if (addressBook == null) {
-            return new MetricsData(0, Map.of(), statusOrder);
-        }
-
-        long totalCompanies = addressBook.getCompanyList().size();
-
-        if (totalCompanies == 0) {
-            return new MetricsData(0, Map.of(), statusOrder);
+    static Map<String, Long> toStatusCounts(ToLongFunction<Status.Stage> countOfStage) {
+        Map<String, Long> statusCounts = new HashMap<>();
+        for (Status.Stage stage : Status.Stage.values()) {
+            long count = countOfStage.applyAsLong(stage);
+            if (count > 0) {
+                statusCounts.put(Status.toUserInputString(stage).toUpperCase(), count);
+            }
         }
-
-        Map<String, Long> statusCounts = addressBook.getCompanyList().stream()
-                .collect(Collectors.groupingBy(
-                        company -> company.getStatus().toUserInputString().toUpperCase(),
-                        Collectors.counting()
-                ));
-
-        return new MetricsData(totalCompanies, statusCounts, statusOrder);
+        return statusCounts;
     }
 
 
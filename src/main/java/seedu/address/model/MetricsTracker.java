@@ -0,0 +1,68 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import javafx.beans.property.ReadOnlyObjectProperty;
+import javafx.beans.property.ReadOnlyObjectWrapper;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.MetricsCalculator.MetricsData;
+import seedu.address.model.company.Company;
+import seedu.address.model.company.Status;
+
+/**
+ * Keeps the metrics of a list of companies up to date as the list changes.
+ * The number of companies at each stage is adjusted by the companies added to and removed from the list,
+ * so the list is only scanned once, when tracking starts.
+ */
+public class MetricsTracker {
+
+    private final Map<Status.Stage, Long> stageCounts = new EnumMap<>(Status.Stage.class);
+    private final ReadOnlyObjectWrapper<MetricsData> metrics = new ReadOnlyObjectWrapper<>();
+    private long totalCompanies = 0;
+
+    /**
+     * Starts tracking the metrics of {@code companies}.
+     */
+    public MetricsTracker(ObservableList<Company> companies) {
+        requireNonNull(companies);
+        for (Status.Stage stage : Status.Stage.values()) {
+            stageCounts.put(stage, 0L);
+        }
+        companies.forEach(company -> count(company, 1));
+        metrics.set(createMetricsData());
+        companies.addListener(this::onChanged);
+    }
+
+    /**
+     * Returns the metrics of the tracked companies, which are replaced by new metrics whenever the companies change.
+     */
+    public ReadOnlyObjectProperty<MetricsData> metricsProperty() {
+        return metrics.getReadOnlyProperty();
+    }
+
+    private void onChanged(ListChangeListener.Change<? extends Company> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            change.getRemoved().forEach(company -> count(company, -1));
+            change.getAddedSubList().forEach(company -> count(company, 1));
+        }
+        metrics.set(createMetricsData());
+    }
+
+    private void count(Company company, long delta) {
+        stageCounts.merge(company.getStatus().value, delta, Long::sum);
+        totalCompanies += delta;
+    }
+
+    private MetricsData createMetricsData() {
+        return new MetricsData(totalCompanies, MetricsCalculator.toStatusCounts(stageCounts::get),
+                MetricsCalculator.DEFAULT_STATUS_ORDER);
+    }
+
+}
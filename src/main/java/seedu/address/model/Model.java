@@ -1,8 +1,11 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Map;
 import java.util.function.Predicate;
 
+import javafx.beans.property.ReadOnlyObjectProperty;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.company.Company;
@@ -63,6 +66,12 @@ public interface Model {
      */
     void deleteCompany(Company target);
 
+    /**
+     * Deletes the given companies at once, notifying listeners of the company list a single time.
+     * The companies must all exist in the address book.
+     */
+    void deleteCompanies(Collection<Company> targets);
+
     /**
      * Adds the given company.
      * {@code company} must not already exist in the address book.
@@ -77,9 +86,27 @@ public interface Model {
      */
     void setCompany(Company target, Company editedCompany);
 
+    /**
+     * Replaces each company that is a key of {@code replacements} with the company it maps to, notifying listeners
+     * of the company list a single time.
+     * The keys must all exist in the address book.
+     * The company identities after the replacements must not be the same as each other.
+     */
+    void setCompanies(Map<Company, Company> replacements);
+
+    /** Returns the metrics of the address book, which are kept up to date as the address book changes. */
+    ReadOnlyObjectProperty<MetricsCalculator.MetricsData> getMetrics();
+
     /** Returns an unmodifiable view of the filtered company list */
     ObservableList<Company> getFilteredCompanyList();
 
+    /**
+     * Updates the filtered company list after companies have been added or edited.
+     * All companies are shown again, unless the model keeps the active filter on changes, in which case the
+     * filtered list has already re-evaluated the changed companies alone and is left as it is.
+     */
+    void updateFilteredCompanyListAfterChange();
+
     /**
      * Updates the filter of the filtered company list to filter by the given {@code predicate}.
      * @throws NullPointerException if {@code predicate} is null.
@@ -4,29 +4,61 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
+import javafx.beans.property.ReadOnlyObjectProperty;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.company.Company;
+import seedu.address.model.company.IndexedPredicate;
 
 /**
  * Represents the in-memory model of the address book data.
  */
 public class ModelManager implements Model {
+    /** The number of {@code IndexedPredicate}s whose matching companies are remembered. */
+    static final int MATCH_CACHE_SIZE = 16;
+
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
 
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
     private final FilteredList<Company> filteredCompanies;
+    private final MetricsTracker metricsTracker;
+    private final boolean isFilterKeptOnChange;
+
+    /** The companies matching recently used predicates, least recently used first. */
+    private final Map<IndexedPredicate, CachedMatches> matchCache =
+            new LinkedHashMap<>(MATCH_CACHE_SIZE, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<IndexedPredicate, CachedMatches> eldest) {
+                    return size() > MATCH_CACHE_SIZE;
+                }
+            };
 
     /**
-     * Initializes a ModelManager with the given addressBook and userPrefs.
+     * Initializes a ModelManager with the given addressBook and userPrefs, which shows all companies again
+     * whenever companies are added or edited.
      */
     public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs) {
+        this(addressBook, userPrefs, false);
+    }
+
+    /**
+     * Initializes a ModelManager with the given addressBook and userPrefs.
+     *
+     * @param isFilterKeptOnChange whether the active filter is kept when companies are added or edited
+     */
+    public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs, boolean isFilterKeptOnChange) {
         requireAllNonNull(addressBook, userPrefs);
 
         logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
@@ -34,6 +66,8 @@ public class ModelManager implements Model {
         this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
         filteredCompanies = new FilteredList<>(this.addressBook.getCompanyList());
+        metricsTracker = new MetricsTracker(this.addressBook.getCompanyList());
+        this.isFilterKeptOnChange = isFilterKeptOnChange;
     }
 
     public ModelManager() {
@@ -98,10 +132,16 @@ public class ModelManager implements Model {
         addressBook.removeCompany(target);
     }
 
+    @Override
+    public void deleteCompanies(Collection<Company> targets) {
+        requireNonNull(targets);
+        addressBook.removeCompanies(targets);
+    }
+
     @Override
     public void addCompany(Company company) {
         addressBook.addCompany(company);
-        updateFilteredCompanyList(PREDICATE_SHOW_ALL_COMPANIES);
+        updateFilteredCompanyListAfterChange();
     }
 
     @Override
@@ -111,6 +151,18 @@ public class ModelManager implements Model {
         addressBook.setCompany(target, editedCompany);
     }
 
+    @Override
+    public void setCompanies(Map<Company, Company> replacements) {
+        requireNonNull(replacements);
+
+        addressBook.setCompanies(replacements);
+    }
+
+    @Override
+    public ReadOnlyObjectProperty<MetricsCalculator.MetricsData> getMetrics() {
+        return metricsTracker.metricsProperty();
+    }
+
     //=========== Filtered Company List Accessors =============================================================
 
     /**
@@ -122,10 +174,65 @@ public class ModelManager implements Model {
         return filteredCompanies;
     }
 
+    @Override
+    public void updateFilteredCompanyListAfterChange() {
+        if (!isFilterKeptOnChange) {
+            updateFilteredCompanyList(PREDICATE_SHOW_ALL_COMPANIES);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * An {@code IndexedPredicate} is only tested against the candidates found through the address book's indexes,
+     * and the companies matching it are remembered until the address book changes, so that using it again
+     * tests no company at all.
+     */
     @Override
     public void updateFilteredCompanyList(Predicate<Company> predicate) {
         requireNonNull(predicate);
-        filteredCompanies.setPredicate(predicate);
+        filteredCompanies.setPredicate(narrowDown(predicate));
+    }
+
+    /**
+     * Returns a predicate equivalent to {@code predicate} that looks companies up in the set of companies matching
+     * it rather than testing them.
+     * The matches are only valid for the current version of the address book, so any company that is added or
+     * changed later is tested with {@code predicate} itself.
+     */
+    private Predicate<Company> narrowDown(Predicate<Company> predicate) {
+        if (!(predicate instanceof IndexedPredicate)) {
+            return predicate;
+        }
+
+        long matchesVersion = addressBook.getVersion();
+        Set<Company> matches = findMatches((IndexedPredicate) predicate, matchesVersion);
+        return company -> addressBook.getVersion() != matchesVersion
+                ? predicate.test(company)
+                : matches.contains(company);
+    }
+
+    /**
+     * Returns the companies in the address book, which is at {@code version}, that match {@code predicate}.
+     * They are taken from the cache if they were found for the same version, and otherwise found by testing
+     * the candidates from the address book's indexes.
+     */
+    private Set<Company> findMatches(IndexedPredicate predicate, long version) {
+        CachedMatches cachedMatches = matchCache.get(predicate);
+        if (cachedMatches != null && cachedMatches.version == version) {
+            return cachedMatches.matches;
+        }
+
+        Iterable<Company> candidates = addressBook.findCandidates(predicate)
+                .<Iterable<Company>>map(candidateSet -> candidateSet)
+                .orElse(addressBook.getCompanyList());
+        Set<Company> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Company candidate : candidates) {
+            if (predicate.test(candidate)) {
+                matches.add(candidate);
+            }
+        }
+        matchCache.put(predicate, new CachedMatches(version, matches));
+        return matches;
     }
 
     @Override
@@ -145,4 +252,17 @@ public class ModelManager implements Model {
                 && filteredCompanies.equals(otherModelManager.filteredCompanies);
     }
 
+    /**
+     * The companies matching a predicate, compared by identity, as of a version of the address book.
+     */
+    private static class CachedMatches {
+        private final long version;
+        private final Set<Company> matches;
+
+        CachedMatches(long version, Set<Company> matches) {
+            this.version = version;
+            this.matches = matches;
+        }
+    }
+
 }
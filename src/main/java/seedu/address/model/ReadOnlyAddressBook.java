@@ -2,6 +2,7 @@ package seedu.address.model;
 
 import javafx.collections.ObservableList;
 import seedu.address.model.company.Company;
+import seedu.address.model.company.UniqueCompanyList;
 
 /**
  * Unmodifiable view of an address book
@@ -14,4 +15,12 @@ public interface ReadOnlyAddressBook {
      */
     ObservableList<Company> getCompanyList();
 
+    /**
+     * Returns the modification version of the address book data.
+     * Equal versions imply equal contents, even between different address books, so storage may skip writing
+     * data whose version it has already written. Implementations that cannot guarantee this must return a new
+     * version from {@link UniqueCompanyList#newVersion()} on every call.
+     */
+    long getVersion();
+
 }
@@ -9,6 +9,7 @@ import java.util.Set;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.util.Interner;
 
 /**
  * Represents a Company in the address book.
@@ -17,6 +18,11 @@ import seedu.address.model.tag.Tag;
  */
 public class Company {
 
+    // Pools of the values that many companies share, so that each distinct value is held once
+    private static final Interner<Tag> TAGS = new Interner<>();
+    private static final Interner<Address> ADDRESSES = new Interner<>();
+    private static final Interner<Status> STATUSES = new Interner<>();
+
     // Identity fields
     private final Name name;
     private final Phone phone;
@@ -24,10 +30,13 @@ public class Company {
 
     // Data fields
     private final Address address;
-    private final Set<Tag> tags = new HashSet<>();
+    private final Set<Tag> tags;
     private final Remark remark;
     private final Status status;
 
+    // Companies are immutable and often kept in hash-based collections, so the hash code is only computed once
+    private final int hashCode;
+
     /**
      * Constructs a {@code Company}.
      * All fields must not be null. Empty fields such as phone, email, address and remark can be represented
@@ -39,10 +48,15 @@ public class Company {
         this.name = name;
         this.phone = phone;
         this.email = email;
-        this.address = address;
-        this.tags.addAll(tags);
+        this.address = ADDRESSES.intern(address);
+        Set<Tag> internedTags = new HashSet<>();
+        for (Tag tag : tags) {
+            internedTags.add(TAGS.intern(tag));
+        }
+        this.tags = Collections.unmodifiableSet(internedTags);
         this.remark = remark;
-        this.status = status;
+        this.status = STATUSES.intern(status);
+        this.hashCode = Objects.hash(name, phone, email, this.address, this.tags, remark, this.status);
     }
 
     public Name getName() {
@@ -66,7 +80,7 @@ public class Company {
      * if modification is attempted.
      */
     public Set<Tag> getTags() {
-        return Collections.unmodifiableSet(tags);
+        return tags;
     }
 
     public Remark getRemark() {
@@ -106,7 +120,8 @@ public class Company {
         }
 
         Company otherCompany = (Company) other;
-        return name.equals(otherCompany.name)
+        return hashCode == otherCompany.hashCode
+                && name.equals(otherCompany.name)
                 && phone.equals(otherCompany.phone)
                 && email.equals(otherCompany.email)
                 && address.equals(otherCompany.address)
@@ -117,8 +132,7 @@ public class Company {
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, phone, email, address, tags, remark, status);
+        return hashCode;
     }
 
     @Override
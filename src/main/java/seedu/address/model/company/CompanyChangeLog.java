@@ -0,0 +1,117 @@
+package seedu.address.model.company;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * The most recent changes to a company list, each with the version of the list it produced, so that the changes
+ * made since an earlier version can be replayed elsewhere, e.g. to save only the companies that changed.
+ * Only about as many changed companies are kept as the list holds, as replaying more would cost more than
+ * copying the whole list.
+ */
+class CompanyChangeLog {
+
+    /** Minimum number of changed companies kept, so that small lists still keep some changes. */
+    static final int MIN_CAPACITY = 64;
+
+    private final Deque<VersionedChange> changes = new ArrayDeque<>();
+
+    /** The version of the list before the oldest kept change. */
+    private long startVersion;
+    /** Number of companies removed and added by the kept changes. */
+    private int changedCount;
+
+    /**
+     * Records that the list, which now holds {@code listSize} companies, was changed by replacing
+     * {@code removedCount} companies starting at {@code index} with {@code addedCompanies}, to produce
+     * {@code version}. The changes making up one version must be recorded in the order they were made.
+     */
+    void record(long version, int index, int removedCount, List<? extends Company> addedCompanies, int listSize) {
+        if (version == startVersion) {
+            // the rest of a version whose earlier changes were already dropped
+            return;
+        }
+
+        int capacity = Math.max(listSize, MIN_CAPACITY);
+        if (removedCount + addedCompanies.size() > capacity) {
+            // the companies are not copied, as the change would be dropped right away
+            clear(version);
+            return;
+        }
+
+        CompanyListChange change = new CompanyListChange(index, removedCount, addedCompanies);
+        changes.addLast(new VersionedChange(version, change));
+        changedCount += change.getChangedCount();
+        while (changedCount > capacity || (!changes.isEmpty() && changes.getFirst().version == startVersion)) {
+            VersionedChange oldestChange = changes.removeFirst();
+            changedCount -= oldestChange.change.getChangedCount();
+            startVersion = oldestChange.version;
+        }
+    }
+
+    /**
+     * Drops all changes, so that the list is only known to be at {@code version}.
+     */
+    void clear(long version) {
+        changes.clear();
+        changedCount = 0;
+        startVersion = version;
+    }
+
+    /**
+     * Replaces the changes in this log with those in {@code other}.
+     */
+    void copyFrom(CompanyChangeLog other) {
+        changes.clear();
+        changes.addAll(other.changes);
+        changedCount = other.changedCount;
+        startVersion = other.startVersion;
+    }
+
+    /**
+     * Returns the changes made since the list was at {@code version}, in the order they were made, or an empty
+     * {@code Optional} if they are no longer kept or the list was never at {@code version}.
+     */
+    Optional<List<CompanyListChange>> getChangesSince(long version) {
+        List<CompanyListChange> newerChanges = new ArrayList<>();
+        Iterator<VersionedChange> iterator = changes.descendingIterator();
+        boolean isVersionFound = version == startVersion;
+        while (iterator.hasNext()) {
+            VersionedChange change = iterator.next();
+            if (change.version == version) {
+                isVersionFound = true;
+                break;
+            }
+            if (change.version < version) {
+                // versions only increase, so the list was never at the version
+                return Optional.empty();
+            }
+            newerChanges.add(change.change);
+        }
+
+        if (!isVersionFound) {
+            return Optional.empty();
+        }
+        Collections.reverse(newerChanges);
+        return Optional.of(newerChanges);
+    }
+
+    /**
+     * A change, with the version of the list it produced.
+     */
+    private static class VersionedChange {
+        private final long version;
+        private final CompanyListChange change;
+
+        VersionedChange(long version, CompanyListChange change) {
+            this.version = version;
+            this.change = change;
+        }
+    }
+
+}
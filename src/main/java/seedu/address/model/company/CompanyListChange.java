@@ -0,0 +1,85 @@
+package seedu.address.model.company;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * A change to a company list, which replaces {@code removedCount} companies starting at {@code index} with
+ * the added companies.
+ * Guarantees: immutable.
+ */
+public class CompanyListChange {
+
+    private final int index;
+    private final int removedCount;
+    private final List<Company> addedCompanies;
+
+    /**
+     * Creates a change that replaces {@code removedCount} companies starting at {@code index} with
+     * {@code addedCompanies}.
+     */
+    public CompanyListChange(int index, int removedCount, List<? extends Company> addedCompanies) {
+        requireNonNull(addedCompanies);
+        if (index < 0 || removedCount < 0) {
+            throw new IndexOutOfBoundsException();
+        }
+        this.index = index;
+        this.removedCount = removedCount;
+        this.addedCompanies = List.copyOf(addedCompanies);
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public int getRemovedCount() {
+        return removedCount;
+    }
+
+    public List<Company> getAddedCompanies() {
+        return addedCompanies;
+    }
+
+    /**
+     * Returns the number of companies removed and added by this change.
+     */
+    public int getChangedCount() {
+        return removedCount + addedCompanies.size();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof CompanyListChange)) {
+            return false;
+        }
+
+        CompanyListChange otherChange = (CompanyListChange) other;
+        return index == otherChange.index
+                && removedCount == otherChange.removedCount
+                && addedCompanies.equals(otherChange.addedCompanies);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(index, removedCount, addedCompanies);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("index", index)
+                .add("removedCount", removedCount)
+                .add("addedCompanies", addedCompanies)
+                .toString();
+    }
+
+}
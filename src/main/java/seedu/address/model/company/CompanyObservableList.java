@@ -0,0 +1,110 @@
+package seedu.address.model.company;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+
+import javafx.collections.ModifiableObservableListBase;
+
+/**
+ * An observable list of companies, backed by an {@code ArrayList}, that reports changes to many companies
+ * precisely and at once.
+ * Replacing several companies is reported as a single change made of the replacements only, and removing several
+ * companies as a single change made of the removals only, so listeners such as a {@code FilteredList} only handle
+ * the companies that changed.
+ */
+class CompanyObservableList extends ModifiableObservableListBase<Company> {
+
+    private final List<Company> companies = new ArrayList<>();
+
+    /**
+     * Replaces the company at each position that is a key of {@code replacements} with the company it maps to.
+     * The positions must all be within the list.
+     */
+    void setCompaniesAt(SortedMap<Integer, Company> replacements) {
+        requireNonNull(replacements);
+        beginChange();
+        try {
+            for (Map.Entry<Integer, Company> replacement : replacements.entrySet()) {
+                set(replacement.getKey(), replacement.getValue());
+            }
+        } finally {
+            endChange();
+        }
+    }
+
+    /**
+     * Replaces the contents of the list with {@code newCompanies}, in a single pass rather than by removing the
+     * companies one at a time.
+     */
+    @Override
+    public boolean setAll(Collection<? extends Company> newCompanies) {
+        requireNonNull(newCompanies);
+        beginChange();
+        try {
+            List<Company> removedCompanies = new ArrayList<>(companies);
+            companies.clear();
+            companies.addAll(newCompanies);
+            nextReplace(0, companies.size(), removedCompanies);
+        } finally {
+            endChange();
+        }
+        return true;
+    }
+
+    /**
+     * Removes the companies equal to any in {@code toRemove}, compacting the rest in a single pass rather than
+     * shifting them once for every removed company.
+     */
+    @Override
+    public boolean removeAll(Collection<?> toRemove) {
+        requireNonNull(toRemove);
+        beginChange();
+        try {
+            int remainingCount = 0;
+            for (int i = 0; i < companies.size(); i++) {
+                Company company = companies.get(i);
+                if (toRemove.contains(company)) {
+                    // the removed company is at this position once the companies before it are compacted
+                    nextRemove(remainingCount, company);
+                } else {
+                    companies.set(remainingCount++, company);
+                }
+            }
+            boolean isModified = remainingCount < companies.size();
+            companies.subList(remainingCount, companies.size()).clear();
+            return isModified;
+        } finally {
+            endChange();
+        }
+    }
+
+    @Override
+    public Company get(int index) {
+        return companies.get(index);
+    }
+
+    @Override
+    public int size() {
+        return companies.size();
+    }
+
+    @Override
+    protected void doAdd(int index, Company element) {
+        companies.add(index, element);
+    }
+
+    @Override
+    protected Company doSet(int index, Company element) {
+        return companies.set(index, element);
+    }
+
+    @Override
+    protected Company doRemove(int index) {
+        return companies.remove(index);
+    }
+}
@@ -0,0 +1,81 @@
+package seedu.address.model.company;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Tests that a {@code Company} satisfies every one of a list of {@code QueryClause}s.
+ * When narrowing down the companies to test, the clause that the indexes estimate to have the fewest
+ * candidates is looked up, and the other clauses are left to be tested against its candidates only.
+ * A query without clauses is satisfied by every company.
+ */
+public class CompanyQuery implements IndexedPredicate {
+    private final List<QueryClause> clauses;
+
+    /**
+     * Creates a query that is satisfied by the companies satisfying all of {@code clauses}.
+     */
+    public CompanyQuery(List<QueryClause> clauses) {
+        requireAllNonNull(clauses);
+        this.clauses = clauses;
+    }
+
+    @Override
+    public boolean test(Company company) {
+        for (QueryClause clause : clauses) {
+            if (!clause.test(company)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public Optional<Set<Company>> findCandidates(UniqueCompanyList companies) {
+        QueryClause mostSelectiveClause = null;
+        long fewestCandidates = Long.MAX_VALUE;
+        for (QueryClause clause : clauses) {
+            OptionalLong estimate = clause.estimateCandidates(companies);
+            if (estimate.isPresent() && estimate.getAsLong() < fewestCandidates) {
+                mostSelectiveClause = clause;
+                fewestCandidates = estimate.getAsLong();
+            }
+        }
+
+        if (mostSelectiveClause == null) {
+            return Optional.empty();
+        }
+        return mostSelectiveClause.findCandidates(companies);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof CompanyQuery)) {
+            return false;
+        }
+
+        CompanyQuery otherCompanyQuery = (CompanyQuery) other;
+        return clauses.equals(otherCompanyQuery.clauses);
+    }
+
+    @Override
+    public int hashCode() {
+        return clauses.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("clauses", clauses).toString();
+    }
+}
@@ -0,0 +1,22 @@
+package seedu.address.model.company;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+/**
+ * Utility methods for the sets of companies kept by the company indexes.
+ */
+class CompanySets {
+
+    private CompanySets() {}
+
+    /**
+     * Returns an empty set that compares companies by identity, so that a company is found without comparing
+     * its fields.
+     */
+    static Set<Company> newIdentitySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+}
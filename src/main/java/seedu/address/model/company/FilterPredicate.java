@@ -1,8 +1,10 @@
 package seedu.address.model.company;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
-import java.util.function.Predicate;
+import java.util.Set;
 
 import seedu.address.commons.util.ToStringBuilder;
 
@@ -10,10 +12,12 @@ import seedu.address.commons.util.ToStringBuilder;
  * Tests that a {@code Company} matches the given status and/or tag filters.
  * For tags, at least one keyword must match at least one tag (OR logic between keywords).
  * Tag matching is case-insensitive and uses substring matching.
+ * The filters are run as a {@code CompanyQuery} of a status clause and a tag clause.
  */
-public class FilterPredicate implements Predicate<Company> {
+public class FilterPredicate implements IndexedPredicate {
     private final Optional<Status> status;
     private final List<String> tagKeywords;
+    private final CompanyQuery query;
 
     /**
      * Creates a FilterPredicate with the given status and tag keywords.
@@ -24,18 +28,23 @@ public class FilterPredicate implements Predicate<Company> {
     public FilterPredicate(Optional<Status> status, List<String> tagKeywords) {
         this.status = status;
         this.tagKeywords = tagKeywords;
+
+        List<QueryClause> clauses = new ArrayList<>();
+        status.ifPresent(value -> clauses.add(new QueryClause(List.of(value.value))));
+        if (!tagKeywords.isEmpty()) {
+            clauses.add(new QueryClause(QueryClause.Field.TAG, tagKeywords));
+        }
+        this.query = new CompanyQuery(clauses);
     }
 
     @Override
     public boolean test(Company company) {
-        boolean statusMatch = status.isEmpty() || company.getStatus().equals(status.get());
-
-        boolean tagsMatch = tagKeywords.isEmpty() || tagKeywords.stream()
-                .anyMatch(keyword -> company.getTags().stream()
-                        .anyMatch(tag -> tag.tagName.toLowerCase()
-                                .contains(keyword.toLowerCase())));
+        return query.test(company);
+    }
 
-        return statusMatch && tagsMatch;
+    @Override
+    public Optional<Set<Company>> findCandidates(UniqueCompanyList companies) {
+        return query.findCandidates(companies);
     }
 
     @Override
@@ -54,6 +63,11 @@ public class FilterPredicate implements Predicate<Company> {
                 && tagKeywords.equals(otherFilterPredicate.tagKeywords);
     }
 
+    @Override
+    public int hashCode() {
+        return Objects.hash(status, tagKeywords);
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this)
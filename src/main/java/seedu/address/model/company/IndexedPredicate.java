@@ -0,0 +1,20 @@
+package seedu.address.model.company;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * A {@code Predicate<Company>} that can use the indexes of a {@code UniqueCompanyList} to narrow down
+ * which of its companies need to be tested.
+ */
+public interface IndexedPredicate extends Predicate<Company> {
+
+    /**
+     * Returns the companies in {@code companies} that may satisfy this predicate. Every company in
+     * {@code companies} that satisfies the predicate must be included, but others may be too.
+     * Returns an empty {@code Optional} if the indexes cannot narrow down the companies.
+     */
+    Optional<Set<Company>> findCandidates(UniqueCompanyList companies);
+
+}
@@ -20,6 +20,9 @@ public class Name {
 
     public final String fullName;
 
+    /** {@code fullName} in lower case, which names are compared and searched by. */
+    private final String lowerCaseName;
+
     /**
      * Constructs a {@code Name}.
      *
@@ -29,6 +32,7 @@ public class Name {
         requireNonNull(name);
         checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
         fullName = name;
+        lowerCaseName = name.toLowerCase();
     }
 
     /**
@@ -38,6 +42,12 @@ public class Name {
         return test.matches(VALIDATION_REGEX);
     }
 
+    /**
+     * Returns the full name in lower case.
+     */
+    public String getLowerCaseName() {
+        return lowerCaseName;
+    }
 
     @Override
     public String toString() {
@@ -56,12 +66,13 @@ public class Name {
         }
 
         Name otherName = (Name) other;
-        return fullName.toLowerCase().equals(otherName.fullName.toLowerCase());
+        return lowerCaseName.equals(otherName.lowerCaseName);
     }
 
     @Override
     public int hashCode() {
-        return fullName.hashCode();
+        // consistent with the case-insensitive equals above
+        return lowerCaseName.hashCode();
     }
 
 }
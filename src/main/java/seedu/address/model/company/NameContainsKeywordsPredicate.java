@@ -1,26 +1,36 @@
 package seedu.address.model.company;
 
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.Optional;
+import java.util.Set;
 
 import seedu.address.commons.util.ToStringBuilder;
 
 /**
  * Tests that a {@code Company}'s {@code Name} contains any of the keywords given as substrings.
  * Keyword matching is case insensitive.
+ * The keywords are run as a {@code CompanyQuery} of a single name clause.
  */
-public class NameContainsKeywordsPredicate implements Predicate<Company> {
+public class NameContainsKeywordsPredicate implements IndexedPredicate {
     private final List<String> keywords;
+    private final CompanyQuery query;
 
+    /**
+     * Creates a predicate that tests for any of the given {@code keywords}.
+     */
     public NameContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.query = new CompanyQuery(List.of(new QueryClause(QueryClause.Field.NAME, keywords)));
     }
 
     @Override
     public boolean test(Company company) {
-        return keywords.stream()
-                .anyMatch(keyword -> company.getName().fullName.toLowerCase()
-                        .contains(keyword.toLowerCase()));
+        return query.test(company);
+    }
+
+    @Override
+    public Optional<Set<Company>> findCandidates(UniqueCompanyList companies) {
+        return query.findCandidates(companies);
     }
 
     @Override
@@ -38,6 +48,11 @@ public class NameContainsKeywordsPredicate implements Predicate<Company> {
         return keywords.equals(otherNameContainsKeywordsPredicate.keywords);
     }
 
+    @Override
+    public int hashCode() {
+        return keywords.hashCode();
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this).add("keywords", keywords).toString();
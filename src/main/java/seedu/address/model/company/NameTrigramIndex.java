@@ -0,0 +1,123 @@
+package seedu.address.model.company;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.Set;
+
+/**
+ * Indexes companies by the trigrams, i.e. substrings of length 3, of their lower-cased names.
+ * A company's name can only contain a keyword if it contains every trigram of the keyword, so the index narrows
+ * down a case-insensitive substring search to the companies that have all of them.
+ * Companies are compared by identity.
+ */
+class NameTrigramIndex {
+
+    static final int GRAM_LENGTH = 3;
+
+    private final Map<String, Set<Company>> postings = new HashMap<>();
+
+    /**
+     * Creates an index of {@code companies}.
+     */
+    NameTrigramIndex(Iterable<Company> companies) {
+        for (Company company : companies) {
+            add(company);
+        }
+    }
+
+    /**
+     * Adds {@code company} to the index.
+     */
+    void add(Company company) {
+        for (String trigram : getTrigrams(company)) {
+            postings.computeIfAbsent(trigram, unused -> CompanySets.newIdentitySet()).add(company);
+        }
+    }
+
+    /**
+     * Removes {@code company} from the index.
+     */
+    void remove(Company company) {
+        for (String trigram : getTrigrams(company)) {
+            Set<Company> companies = postings.get(trigram);
+            companies.remove(company);
+            if (companies.isEmpty()) {
+                postings.remove(trigram);
+            }
+        }
+    }
+
+    /**
+     * Returns every indexed company whose name may contain {@code keyword}, ignoring case, and possibly others.
+     * Returns an empty {@code Optional} if {@code keyword} is too short to be looked up, in which case any
+     * company may match.
+     */
+    Optional<Set<Company>> findCandidates(String keyword) {
+        requireNonNull(keyword);
+        Set<String> trigrams = getTrigrams(keyword.toLowerCase());
+        if (trigrams.isEmpty()) {
+            return Optional.empty();
+        }
+
+        List<Set<Company>> postingsToMatch = new ArrayList<>();
+        for (String trigram : trigrams) {
+            Set<Company> companies = postings.get(trigram);
+            if (companies == null) {
+                return Optional.of(Collections.emptySet());
+            }
+            postingsToMatch.add(companies);
+        }
+
+        // start from the shortest postings, so that each company is checked against as few sets as possible
+        postingsToMatch.sort(Comparator.comparingInt(Set::size));
+        Set<Company> candidates = CompanySets.newIdentitySet();
+        for (Company company : postingsToMatch.get(0)) {
+            if (postingsToMatch.stream().allMatch(companies -> companies.contains(company))) {
+                candidates.add(company);
+            }
+        }
+        return Optional.of(candidates);
+    }
+
+    /**
+     * Returns an upper bound on the number of companies {@link #findCandidates(String)} returns for
+     * {@code keyword}, without finding them.
+     * Returns an empty {@code OptionalInt} if {@code keyword} is too short to be looked up.
+     */
+    OptionalInt estimateCandidates(String keyword) {
+        requireNonNull(keyword);
+        Set<String> trigrams = getTrigrams(keyword.toLowerCase());
+        if (trigrams.isEmpty()) {
+            return OptionalInt.empty();
+        }
+
+        int estimate = Integer.MAX_VALUE;
+        for (String trigram : trigrams) {
+            Set<Company> companies = postings.get(trigram);
+            estimate = Math.min(estimate, companies == null ? 0 : companies.size());
+        }
+        return OptionalInt.of(estimate);
+    }
+
+    private static Set<String> getTrigrams(Company company) {
+        return getTrigrams(company.getName().getLowerCaseName());
+    }
+
+    private static Set<String> getTrigrams(String lowerCaseText) {
+        Set<String> trigrams = new HashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= lowerCaseText.length(); i++) {
+            trigrams.add(lowerCaseText.substring(i, i + GRAM_LENGTH));
+        }
+        return trigrams;
+    }
+
+}
@@ -0,0 +1,206 @@
+package seedu.address.model.company;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.SubstringMatcher;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.company.exceptions.UnsupportedStatusException;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A clause of a {@code CompanyQuery}, which a {@code Company} satisfies if one of its fields matches any of
+ * the clause's keywords.
+ * The status must be one of the statuses given as keywords, while the other fields must contain a keyword as
+ * a substring, ignoring case. A company without a value for the field never satisfies the clause.
+ */
+public class QueryClause {
+
+    /**
+     * The fields of a {@code Company} that a clause can be over.
+     */
+    public enum Field {
+        NAME,
+        TAG,
+        STATUS,
+        PHONE,
+        EMAIL,
+        ADDRESS,
+        REMARK
+    }
+
+    private final Field field;
+    private final List<String> keywords;
+    private final SubstringMatcher matcher;
+    private final Set<Status.Stage> stages;
+
+    /**
+     * Creates a clause over {@code field} that matches any of {@code keywords}.
+     *
+     * @throws UnsupportedStatusException if {@code field} is the status and a keyword is not a valid status.
+     */
+    public QueryClause(Field field, List<String> keywords) {
+        requireAllNonNull(field, keywords);
+        this.field = field;
+        this.keywords = keywords;
+        this.matcher = new SubstringMatcher(keywords);
+        this.stages = EnumSet.noneOf(Status.Stage.class);
+        if (field == Field.STATUS) {
+            keywords.forEach(keyword -> stages.add(Status.ofUserInput(keyword)));
+        }
+    }
+
+    /**
+     * Creates a clause over the status that matches any of {@code stages}, without parsing them from keywords.
+     * It is equal to the clause created from the user input forms of {@code stages}.
+     */
+    public QueryClause(Collection<Status.Stage> stages) {
+        requireAllNonNull(stages);
+        this.field = Field.STATUS;
+        this.keywords = stages.stream().map(Status::toUserInputString).collect(Collectors.toList());
+        this.matcher = new SubstringMatcher(List.of());
+        this.stages = stages.isEmpty() ? EnumSet.noneOf(Status.Stage.class) : EnumSet.copyOf(stages);
+    }
+
+    public Field getField() {
+        return field;
+    }
+
+    /**
+     * Returns true if {@code company} satisfies this clause.
+     */
+    public boolean test(Company company) {
+        requireNonNull(company);
+        switch (field) {
+        case NAME:
+            return matcher.matches(company.getName().getLowerCaseName());
+        case TAG:
+            for (Tag tag : company.getTags()) {
+                if (matcher.matches(tag.tagName)) {
+                    return true;
+                }
+            }
+            return false;
+        case STATUS:
+            return stages.contains(company.getStatus().value);
+        case PHONE:
+            return matchesValue(company.getPhone().value);
+        case EMAIL:
+            return matchesValue(company.getEmail().value);
+        case ADDRESS:
+            return matchesValue(company.getAddress().value);
+        case REMARK:
+            return matchesValue(company.getRemark().value);
+        default:
+            throw new IllegalStateException("Unhandled field: " + field);
+        }
+    }
+
+    /**
+     * Returns an upper bound on the number of companies in {@code companies} that satisfy this clause, as given
+     * by their indexes, or an empty {@code OptionalLong} if this clause cannot be looked up in them.
+     */
+    public OptionalLong estimateCandidates(UniqueCompanyList companies) {
+        requireNonNull(companies);
+        long estimate = 0;
+        switch (field) {
+        case NAME:
+            for (String keyword : keywords) {
+                OptionalInt keywordEstimate = companies.estimateCandidatesByName(keyword);
+                if (!keywordEstimate.isPresent()) {
+                    return OptionalLong.empty();
+                }
+                estimate += keywordEstimate.getAsInt();
+            }
+            return OptionalLong.of(estimate);
+        case TAG:
+            for (String keyword : keywords) {
+                estimate += companies.estimateCompaniesByTag(keyword);
+            }
+            return OptionalLong.of(estimate);
+        case STATUS:
+            for (Status.Stage stage : stages) {
+                estimate += companies.countCompaniesByStatus(stage);
+            }
+            return OptionalLong.of(estimate);
+        default:
+            return OptionalLong.empty();
+        }
+    }
+
+    /**
+     * Returns the companies in {@code companies} that may satisfy this clause, as found through their indexes,
+     * or an empty {@code Optional} if this clause cannot be looked up in them.
+     * The returned set compares companies by identity.
+     */
+    public Optional<Set<Company>> findCandidates(UniqueCompanyList companies) {
+        requireNonNull(companies);
+        Set<Company> candidates = CompanySets.newIdentitySet();
+        switch (field) {
+        case NAME:
+            for (String keyword : keywords) {
+                Optional<Set<Company>> keywordCandidates = companies.findCandidatesByName(keyword);
+                if (!keywordCandidates.isPresent()) {
+                    return Optional.empty();
+                }
+                candidates.addAll(keywordCandidates.get());
+            }
+            return Optional.of(candidates);
+        case TAG:
+            for (String keyword : keywords) {
+                candidates.addAll(companies.findCompaniesByTag(keyword));
+            }
+            return Optional.of(candidates);
+        case STATUS:
+            for (Status.Stage stage : stages) {
+                candidates.addAll(companies.findCompaniesByStatus(stage));
+            }
+            return Optional.of(candidates);
+        default:
+            return Optional.empty();
+        }
+    }
+
+    private boolean matchesValue(String value) {
+        return value != null && matcher.matches(value);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof QueryClause)) {
+            return false;
+        }
+
+        QueryClause otherQueryClause = (QueryClause) other;
+        return field == otherQueryClause.field
+                && keywords.equals(otherQueryClause.keywords);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(field, keywords);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("field", field)
+                .add("keywords", keywords)
+                .toString();
+    }
+}
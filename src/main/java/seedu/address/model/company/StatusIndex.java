@@ -0,0 +1,64 @@
+package seedu.address.model.company;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.company.Status.Stage;
+
+/**
+ * Partitions companies by the stage of their status, keeping for each stage the set of companies at it.
+ * As every company is at exactly one stage, the companies at a stage and their number are direct lookups.
+ * Companies are compared by identity.
+ */
+class StatusIndex {
+
+    private final Map<Stage, Set<Company>> partitions = new EnumMap<>(Stage.class);
+
+    /**
+     * Creates an index of {@code companies}.
+     */
+    StatusIndex(Iterable<Company> companies) {
+        for (Stage stage : Stage.values()) {
+            partitions.put(stage, CompanySets.newIdentitySet());
+        }
+        for (Company company : companies) {
+            add(company);
+        }
+    }
+
+    /**
+     * Adds {@code company} to the index.
+     */
+    void add(Company company) {
+        partitions.get(company.getStatus().value).add(company);
+    }
+
+    /**
+     * Removes {@code company} from the index.
+     */
+    void remove(Company company) {
+        partitions.get(company.getStatus().value).remove(company);
+    }
+
+    /**
+     * Returns the indexed companies at {@code stage}.
+     */
+    Set<Company> findCompanies(Stage stage) {
+        requireNonNull(stage);
+        Set<Company> companies = CompanySets.newIdentitySet();
+        companies.addAll(partitions.get(stage));
+        return companies;
+    }
+
+    /**
+     * Returns the number of indexed companies at {@code stage}.
+     */
+    int count(Stage stage) {
+        requireNonNull(stage);
+        return partitions.get(stage).size();
+    }
+
+}
@@ -0,0 +1,82 @@
+package seedu.address.model.company;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.tag.Tag;
+
+/**
+ * Indexes companies by their tags, keeping for each distinct tag the set of companies that have it.
+ * A keyword is matched against the distinct tags once, rather than against the tags of every company.
+ * Companies are compared by identity.
+ */
+class TagIndex {
+
+    private final Map<Tag, Set<Company>> postings = new HashMap<>();
+
+    /**
+     * Creates an index of {@code companies}.
+     */
+    TagIndex(Iterable<Company> companies) {
+        for (Company company : companies) {
+            add(company);
+        }
+    }
+
+    /**
+     * Adds {@code company} to the index.
+     */
+    void add(Company company) {
+        for (Tag tag : company.getTags()) {
+            postings.computeIfAbsent(tag, unused -> CompanySets.newIdentitySet()).add(company);
+        }
+    }
+
+    /**
+     * Removes {@code company} from the index.
+     */
+    void remove(Company company) {
+        for (Tag tag : company.getTags()) {
+            Set<Company> companies = postings.get(tag);
+            companies.remove(company);
+            if (companies.isEmpty()) {
+                postings.remove(tag);
+            }
+        }
+    }
+
+    /**
+     * Returns the indexed companies with a tag that contains {@code keyword}, ignoring case.
+     */
+    Set<Company> findCompanies(String keyword) {
+        requireNonNull(keyword);
+        String lowerCaseKeyword = keyword.toLowerCase();
+        Set<Company> companies = CompanySets.newIdentitySet();
+        postings.forEach((tag, taggedCompanies) -> {
+            if (tag.tagName.contains(lowerCaseKeyword)) {
+                companies.addAll(taggedCompanies);
+            }
+        });
+        return companies;
+    }
+
+    /**
+     * Returns an upper bound on the number of companies {@link #findCompanies(String)} returns for
+     * {@code keyword}, without finding them.
+     */
+    int estimateCompanies(String keyword) {
+        requireNonNull(keyword);
+        String lowerCaseKeyword = keyword.toLowerCase();
+        int estimate = 0;
+        for (Map.Entry<Tag, Set<Company>> posting : postings.entrySet()) {
+            if (posting.getKey().tagName.contains(lowerCaseKeyword)) {
+                estimate += posting.getValue().size();
+            }
+        }
+        return estimate;
+    }
+
+}
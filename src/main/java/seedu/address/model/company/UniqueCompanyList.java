@@ -3,10 +3,24 @@ package seedu.address.model.company;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.address.model.company.exceptions.CompanyNotFoundException;
 import seedu.address.model.company.exceptions.DuplicateCompanyException;
@@ -20,21 +34,64 @@ import seedu.address.model.company.exceptions.DuplicateCompanyException;
  * the same fields will be removed.
  *
  * Supports a minimal set of list operations.
+ * A name-keyed index is kept in sync with the backing list so that identity checks do not scan the list.
+ * The position of each company in the list is also kept, so that the company to replace or remove is located
+ * without scanning the list either.
+ * Indexes of name trigrams, of tags and of statuses, used to search companies by name, by tag and by status,
+ * are built on the first search that needs them and then also kept in sync, so copies of the list that are never
+ * searched do not pay for them.
+ * Every mutation gives the list a new version, see {@link #getVersion()}, and the most recent changes are kept
+ * with the versions they produced, see {@link #getChangesSince(long)}.
  *
  * @see Company#isSameCompany(Company)
  */
 public class UniqueCompanyList implements Iterable<Company> {
 
-    private final ObservableList<Company> internalList = FXCollections.observableArrayList();
+    /** Source of versions, shared by all lists so that a version is never handed out twice. */
+    private static final AtomicLong latestVersion = new AtomicLong();
+
+    private final CompanyObservableList internalList = new CompanyObservableList();
     private final ObservableList<Company> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
+    /** Companies in {@code internalList} by their names. Must be updated with every mutation of the list. */
+    private final Map<Name, Company> nameIndex = new HashMap<>();
+
+    /**
+     * Positions of the companies in {@code internalList}, by identity. As removing a company shifts the companies
+     * after it, only the positions before {@code firstStalePosition} are up to date, and the others are updated
+     * when they are next needed.
+     */
+    private final Map<Company, Integer> positions = new IdentityHashMap<>();
+    private int firstStalePosition = 0;
+
+    /** Trigram index of the companies in {@code internalList}, or null if it has not been built yet. */
+    private NameTrigramIndex nameTrigramIndex;
+
+    /** Tag index of the companies in {@code internalList}, or null if it has not been built yet. */
+    private TagIndex tagIndex;
+
+    /** Status index of the companies in {@code internalList}, or null if it has not been built yet. */
+    private StatusIndex statusIndex;
+
+    /** Recent changes to {@code internalList}, recorded as listeners see them. */
+    private final CompanyChangeLog changeLog = new CompanyChangeLog();
+
+    private long version = 0;
+
+    /**
+     * Creates an empty list.
+     */
+    public UniqueCompanyList() {
+        internalList.addListener(this::recordChange);
+    }
+
     /**
      * Returns true if the list contains an equivalent company as the given argument.
      */
     public boolean contains(Company toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameCompany);
+        return nameIndex.containsKey(toCheck.getName());
     }
 
     /**
@@ -46,6 +103,11 @@ public class UniqueCompanyList implements Iterable<Company> {
         if (contains(toAdd)) {
             throw new DuplicateCompanyException();
         }
+        index(toAdd);
+        if (firstStalePosition == internalList.size()) {
+            positions.put(toAdd, firstStalePosition++);
+        }
+        markModified();
         internalList.add(toAdd);
     }
 
@@ -57,7 +119,7 @@ public class UniqueCompanyList implements Iterable<Company> {
     public void setCompany(Company target, Company editedCompany) {
         requireAllNonNull(target, editedCompany);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new CompanyNotFoundException();
         }
@@ -66,6 +128,12 @@ public class UniqueCompanyList implements Iterable<Company> {
             throw new DuplicateCompanyException();
         }
 
+        Company replacedCompany = internalList.get(index);
+        unindex(replacedCompany);
+        index(editedCompany);
+        positions.remove(replacedCompany);
+        positions.put(editedCompany, index);
+        markModified();
         internalList.set(index, editedCompany);
     }
 
@@ -75,14 +143,61 @@ public class UniqueCompanyList implements Iterable<Company> {
      */
     public void remove(Company toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new CompanyNotFoundException();
         }
+        Company removedCompany = internalList.get(index);
+        unindex(removedCompany);
+        positions.remove(removedCompany);
+        firstStalePosition = Math.min(firstStalePosition, index);
+        markModified();
+        internalList.remove(index);
     }
 
+    /**
+     * Removes the equivalent companies of {@code toRemove} from the list.
+     * The companies must all exist in the list, otherwise none of them are removed.
+     * Listeners are notified of the removal once, rather than once per company, with a change that holds only
+     * the removed companies.
+     */
+    public void removeAll(Collection<Company> toRemove) {
+        requireAllNonNull(toRemove);
+        Set<Company> companiesToRemove = new HashSet<>(toRemove);
+        List<Company> removedCompanies = new ArrayList<>(companiesToRemove.size());
+        for (Company company : companiesToRemove) {
+            Company listedCompany = nameIndex.get(company.getName());
+            if (listedCompany == null || !listedCompany.equals(company)) {
+                throw new CompanyNotFoundException();
+            }
+            removedCompanies.add(listedCompany);
+        }
+        if (removedCompanies.isEmpty()) {
+            return;
+        }
+
+        for (Company removedCompany : removedCompanies) {
+            unindex(removedCompany);
+            // an unknown position is already stale, so only known positions can make more of them stale
+            Integer position = positions.remove(removedCompany);
+            if (position != null) {
+                firstStalePosition = Math.min(firstStalePosition, position);
+            }
+        }
+        markModified();
+        internalList.removeAll(companiesToRemove);
+    }
+
+    /**
+     * Replaces the contents of this list with the contents of {@code replacement}.
+     * This list takes on the version of {@code replacement}, as both now hold the same companies.
+     */
     public void setCompanies(UniqueCompanyList replacement) {
         requireNonNull(replacement);
+        rebuildIndexes(replacement.internalList);
+        version = replacement.version;
         internalList.setAll(replacement.internalList);
+        changeLog.copyFrom(replacement.changeLog);
     }
 
     /**
@@ -91,13 +206,136 @@ public class UniqueCompanyList implements Iterable<Company> {
      */
     public void setCompanies(List<Company> companies) {
         requireAllNonNull(companies);
-        if (!companiesAreUnique(companies)) {
-            throw new DuplicateCompanyException();
+        List<Name> duplicateNames = findDuplicateNames(companies);
+        if (!duplicateNames.isEmpty()) {
+            throw new DuplicateCompanyException(duplicateNames);
         }
 
+        rebuildIndexes(companies);
+        markModified();
         internalList.setAll(companies);
     }
 
+    /**
+     * Replaces each company in the list that is a key of {@code replacements} with the company it maps to.
+     * The keys must all exist in the list, and after the replacements no two companies in the list may have
+     * the same identity; otherwise no company is replaced.
+     * The companies to replace are located without scanning the list, and listeners are notified of the
+     * replacements once, with a change made of the replacements only.
+     */
+    public void setCompanies(Map<Company, Company> replacements) {
+        requireNonNull(replacements);
+        List<Company> replacedCompanies = new ArrayList<>(replacements.size());
+        Set<Name> replacedNames = new HashSet<>();
+        for (Map.Entry<Company, Company> replacement : replacements.entrySet()) {
+            requireAllNonNull(replacement.getKey(), replacement.getValue());
+            Company listedCompany = nameIndex.get(replacement.getKey().getName());
+            if (listedCompany == null || !listedCompany.equals(replacement.getKey())) {
+                throw new CompanyNotFoundException();
+            }
+            replacedCompanies.add(listedCompany);
+            replacedNames.add(listedCompany.getName());
+        }
+
+        // only the edited companies can clash, with each other or with the companies that are not replaced
+        Set<Name> editedNames = new HashSet<>();
+        Set<Name> duplicateNames = new LinkedHashSet<>();
+        for (Company editedCompany : replacements.values()) {
+            Name name = editedCompany.getName();
+            if (!editedNames.add(name) || (nameIndex.containsKey(name) && !replacedNames.contains(name))) {
+                duplicateNames.add(name);
+            }
+        }
+        if (!duplicateNames.isEmpty()) {
+            throw new DuplicateCompanyException(new ArrayList<>(duplicateNames));
+        }
+        if (replacedCompanies.isEmpty()) {
+            return;
+        }
+
+        SortedMap<Integer, Company> editedCompaniesByPosition = new TreeMap<>();
+        for (Company replacedCompany : replacedCompanies) {
+            editedCompaniesByPosition.put(indexOf(replacedCompany), replacements.get(replacedCompany));
+        }
+        replacedCompanies.forEach(this::unindex);
+        for (Map.Entry<Integer, Company> editedCompany : editedCompaniesByPosition.entrySet()) {
+            index(editedCompany.getValue());
+            positions.remove(internalList.get(editedCompany.getKey()));
+            positions.put(editedCompany.getValue(), editedCompany.getKey());
+        }
+        markModified();
+        internalList.setCompaniesAt(editedCompaniesByPosition);
+    }
+
+    /**
+     * Returns every company in the list whose name may contain {@code keyword}, ignoring case, and possibly others.
+     * The returned set compares companies by identity.
+     * Returns an empty {@code Optional} if {@code keyword} is too short to be looked up, in which case any
+     * company may match.
+     */
+    public Optional<Set<Company>> findCandidatesByName(String keyword) {
+        return getNameTrigramIndex().findCandidates(keyword);
+    }
+
+    /**
+     * Returns an upper bound on the number of companies {@link #findCandidatesByName(String)} returns for
+     * {@code keyword}, which is cheaper to work out than the companies themselves.
+     * Returns an empty {@code OptionalInt} if {@code keyword} is too short to be looked up.
+     */
+    public OptionalInt estimateCandidatesByName(String keyword) {
+        return getNameTrigramIndex().estimateCandidates(keyword);
+    }
+
+    /**
+     * Returns the companies in the list with a tag that contains {@code keyword}, ignoring case.
+     * The returned set compares companies by identity.
+     */
+    public Set<Company> findCompaniesByTag(String keyword) {
+        return getTagIndex().findCompanies(keyword);
+    }
+
+    /**
+     * Returns an upper bound on the number of companies {@link #findCompaniesByTag(String)} returns for
+     * {@code keyword}, which is cheaper to work out than the companies themselves.
+     */
+    public int estimateCompaniesByTag(String keyword) {
+        return getTagIndex().estimateCompanies(keyword);
+    }
+
+    /**
+     * Returns the companies in the list whose status is at {@code stage}.
+     * The returned set compares companies by identity.
+     */
+    public Set<Company> findCompaniesByStatus(Status.Stage stage) {
+        return getStatusIndex().findCompanies(stage);
+    }
+
+    /**
+     * Returns the number of companies in the list whose status is at {@code stage}.
+     */
+    public int countCompaniesByStatus(Status.Stage stage) {
+        return getStatusIndex().count(stage);
+    }
+
+    /**
+     * Returns the version of the contents of this list. The version changes whenever the list is modified and
+     * only ever increases, except when the list is replaced through {@link #setCompanies(UniqueCompanyList)}.
+     * Two lists have the same version only if they hold the same companies.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the changes made to the list since it was at {@code version}, in the order they were made, so that
+     * applying them in turn to the companies the list held at {@code version} gives the companies it holds now.
+     * Returns an empty {@code Optional} if the changes are no longer kept, which is the case once they change
+     * about as many companies as the list holds, or if the list was never at {@code version}.
+     */
+    public Optional<List<CompanyListChange>> getChangesSince(long version) {
+        return changeLog.getChangesSince(version);
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
@@ -136,16 +374,140 @@ public class UniqueCompanyList implements Iterable<Company> {
     }
 
     /**
-     * Returns true if {@code companies} contains only unique companies.
+     * Returns a version that has never been handed out before, by any list or address book.
+     */
+    public static long newVersion() {
+        return latestVersion.incrementAndGet();
+    }
+
+    private void markModified() {
+        version = newVersion();
+    }
+
+    private void recordChange(ListChangeListener.Change<? extends Company> change) {
+        while (change.next()) {
+            int from = change.getFrom();
+            if (change.wasPermutated()) {
+                int to = change.getTo();
+                changeLog.record(version, from, to - from, internalList.subList(from, to), internalList.size());
+            } else if (!change.wasUpdated()) {
+                changeLog.record(version, from, change.getRemovedSize(), change.getAddedSubList(),
+                        internalList.size());
+            }
+        }
+    }
+
+    /**
+     * Adds {@code company} to the indexes. Must be called before it is added to {@code internalList}.
+     */
+    private void index(Company company) {
+        nameIndex.put(company.getName(), company);
+        if (nameTrigramIndex != null) {
+            nameTrigramIndex.add(company);
+        }
+        if (tagIndex != null) {
+            tagIndex.add(company);
+        }
+        if (statusIndex != null) {
+            statusIndex.add(company);
+        }
+    }
+
+    /**
+     * Removes {@code company}, which must be the instance in {@code internalList}, from the indexes.
+     * Must be called before it is removed from {@code internalList}.
+     */
+    private void unindex(Company company) {
+        nameIndex.remove(company.getName());
+        if (nameTrigramIndex != null) {
+            nameTrigramIndex.remove(company);
+        }
+        if (tagIndex != null) {
+            tagIndex.remove(company);
+        }
+        if (statusIndex != null) {
+            statusIndex.remove(company);
+        }
+    }
+
+    /**
+     * Rebuilds the indexes to index exactly the given {@code companies}.
+     * The search indexes are dropped, to be rebuilt when they are next needed.
+     */
+    private void rebuildIndexes(List<Company> companies) {
+        nameIndex.clear();
+        for (Company company : companies) {
+            nameIndex.put(company.getName(), company);
+        }
+        clearPositions();
+        nameTrigramIndex = null;
+        tagIndex = null;
+        statusIndex = null;
+    }
+
+    /**
+     * Returns the position in {@code internalList} of the company equal to {@code company}, or -1 if there is none.
+     * As companies are unique by name, only the company with the same name can be equal to it.
+     */
+    private int indexOf(Company company) {
+        Company listedCompany = nameIndex.get(company.getName());
+        if (listedCompany == null || !listedCompany.equals(company)) {
+            return -1;
+        }
+
+        int position = positions.getOrDefault(listedCompany, firstStalePosition);
+        if (position >= firstStalePosition) {
+            for (int i = firstStalePosition; i < internalList.size(); i++) {
+                positions.put(internalList.get(i), i);
+            }
+            firstStalePosition = internalList.size();
+            position = positions.get(listedCompany);
+        }
+        return position;
+    }
+
+    /**
+     * Forgets the positions of all companies, to be worked out again when they are next needed.
+     * Must be called whenever companies are rearranged other than by adding, replacing or removing one company.
+     */
+    private void clearPositions() {
+        positions.clear();
+        firstStalePosition = 0;
+    }
+
+    private NameTrigramIndex getNameTrigramIndex() {
+        if (nameTrigramIndex == null) {
+            nameTrigramIndex = new NameTrigramIndex(internalList);
+        }
+        return nameTrigramIndex;
+    }
+
+    private TagIndex getTagIndex() {
+        if (tagIndex == null) {
+            tagIndex = new TagIndex(internalList);
+        }
+        return tagIndex;
+    }
+
+    private StatusIndex getStatusIndex() {
+        if (statusIndex == null) {
+            statusIndex = new StatusIndex(internalList);
+        }
+        return statusIndex;
+    }
+
+    /**
+     * Returns the names that are shared by more than one company in {@code companies}, each listed once
+     * in the order their first duplicate is encountered. The list is empty if all companies are unique.
      */
-    private boolean companiesAreUnique(List<Company> companies) {
-        for (int i = 0; i < companies.size() - 1; i++) {
-            for (int j = i + 1; j < companies.size(); j++) {
-                if (companies.get(i).isSameCompany(companies.get(j))) {
-                    return false;
-                }
+    private List<Name> findDuplicateNames(List<Company> companies) {
+        Set<Name> seenNames = new HashSet<>();
+        Set<Name> duplicateNames = new LinkedHashSet<>();
+        for (Company company : companies) {
+            if (!seenNames.add(company.getName())) {
+                duplicateNames.add(company.getName());
             }
         }
-        return true;
+        return new ArrayList<>(duplicateNames);
     }
 }
@@ -1,11 +1,38 @@
 package seedu.address.model.company.exceptions;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.model.company.Name;
+
 /**
  * Signals that the operation will result in duplicate companies
  * (companies are considered duplicates if they have the same identity).
  */
 public class DuplicateCompanyException extends RuntimeException {
+    private final List<Name> duplicateNames;
+
+    /**
+     * Constructs a {@code DuplicateCompanyException} without naming the companies that collided.
+     */
     public DuplicateCompanyException() {
         super("Operation would result in duplicate companies");
+        duplicateNames = List.of();
+    }
+
+    /**
+     * Constructs a {@code DuplicateCompanyException} that names every company identity that collided.
+     */
+    public DuplicateCompanyException(List<Name> duplicateNames) {
+        super("Operation would result in duplicate companies: "
+                + duplicateNames.stream().map(Name::toString).collect(Collectors.joining(", ")));
+        this.duplicateNames = List.copyOf(duplicateNames);
+    }
+
+    /**
+     * Returns the company identities that collided, which is empty if they are not known.
+     */
+    public List<Name> getDuplicateNames() {
+        return duplicateNames;
     }
 }
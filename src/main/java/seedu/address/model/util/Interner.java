@@ -0,0 +1,97 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A pool of canonical instances of an immutable value type, so that equal values created separately, such as
+ * the same tag read for many companies, can share a single instance.
+ * Instances are only held weakly, and are dropped from the pool once nothing else refers to them.
+ * The pool can be used from many threads at once without locking, e.g. while companies are converted in parallel.
+ *
+ * @param <T> the type of the values, which must be immutable and implement {@code equals} and {@code hashCode}.
+ */
+public class Interner<T> {
+
+    /** Each canonical instance, keyed by a reference to itself. */
+    private final ConcurrentMap<CanonicalReference<T>, CanonicalReference<T>> canonicalValues =
+            new ConcurrentHashMap<>();
+    private final ReferenceQueue<T> clearedReferences = new ReferenceQueue<>();
+
+    /**
+     * Returns the canonical instance equal to {@code value}, which is {@code value} itself if the pool holds no
+     * equal instance yet.
+     */
+    public T intern(T value) {
+        requireNonNull(value);
+        dropClearedReferences();
+
+        CanonicalReference<T> reference = new CanonicalReference<>(value, clearedReferences);
+        while (true) {
+            CanonicalReference<T> canonicalReference = canonicalValues.putIfAbsent(reference, reference);
+            if (canonicalReference == null) {
+                return value;
+            }
+            T canonicalValue = canonicalReference.get();
+            if (canonicalValue != null) {
+                return canonicalValue;
+            }
+            // the canonical instance was collected after it was found, so it is replaced
+            canonicalValues.remove(canonicalReference, canonicalReference);
+        }
+    }
+
+    /**
+     * Returns the number of canonical instances in the pool, some of which may be about to be dropped.
+     */
+    public int size() {
+        dropClearedReferences();
+        return canonicalValues.size();
+    }
+
+    private void dropClearedReferences() {
+        for (Reference<? extends T> reference = clearedReferences.poll(); reference != null;
+                reference = clearedReferences.poll()) {
+            canonicalValues.remove(reference, reference);
+        }
+    }
+
+    /**
+     * A weak reference that is equal to another reference whose value is equal to its own, while both values are
+     * still reachable.
+     */
+    private static class CanonicalReference<T> extends WeakReference<T> {
+        private final int hashCode;
+
+        CanonicalReference(T value, ReferenceQueue<T> queue) {
+            super(value, queue);
+            hashCode = value.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof CanonicalReference)) {
+                return false;
+            }
+
+            Object value = get();
+            return value != null && value.equals(((CanonicalReference<?>) other).get());
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
+}
@@ -0,0 +1,341 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.company.Address;
+import seedu.address.model.company.Company;
+import seedu.address.model.company.Email;
+import seedu.address.model.company.Name;
+import seedu.address.model.company.Phone;
+import seedu.address.model.company.Remark;
+import seedu.address.model.company.Status;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Wraps another {@code AddressBookStorage} with a binary cache of its data, for faster loading.
+ * The cache is only written on request, e.g. on a clean shutdown, and records the size and last modified time
+ * of the files it was made from. It is only loaded while those files are unchanged, so the wrapped storage
+ * remains the source of truth.
+ */
+public class BinaryCachedAddressBookStorage implements AddressBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryCachedAddressBookStorage.class);
+
+    private static final String CACHE_FILE_SUFFIX = ".bin";
+    private static final int MAGIC_NUMBER = 0x43524253;
+    /** Must change whenever the layout below, or the order of {@link Status.Stage}, changes. */
+    private static final int FORMAT_VERSION = 1;
+    private static final int NULL_LENGTH = -1;
+
+    private final AddressBookStorage sourceStorage;
+    private final Path cacheFilePath;
+    private final List<Path> sourceFilePaths = new ArrayList<>();
+
+    /** The data last read from or saved to the source, or null if it is not known. */
+    private ReadOnlyAddressBook persistedAddressBook;
+    private boolean isCacheUpToDate;
+
+    /**
+     * Creates a {@code BinaryCachedAddressBookStorage} that caches the data of {@code sourceStorage}
+     * in a file next to its data file.
+     */
+    public BinaryCachedAddressBookStorage(AddressBookStorage sourceStorage) {
+        requireNonNull(sourceStorage);
+        this.sourceStorage = sourceStorage;
+
+        Path filePath = sourceStorage.getAddressBookFilePath();
+        cacheFilePath = getCacheFilePath(filePath);
+        sourceFilePaths.add(filePath);
+        sourceFilePaths.add(JournaledAddressBookStorage.getJournalFilePath(filePath));
+    }
+
+    /**
+     * Returns the location of the cache for the data file at {@code filePath}.
+     */
+    static Path getCacheFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + CACHE_FILE_SUFFIX);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return sourceStorage.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(getAddressBookFilePath());
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * The cache is only used when reading from the source's own file path.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!filePath.equals(getAddressBookFilePath())) {
+            return sourceStorage.readAddressBook(filePath);
+        }
+
+        Optional<AddressBook> cachedAddressBook = readCache();
+        if (cachedAddressBook.isPresent()) {
+            persistedAddressBook = cachedAddressBook.get();
+            isCacheUpToDate = true;
+            return Optional.of(cachedAddressBook.get());
+        }
+
+        persistedAddressBook = null;
+        isCacheUpToDate = false;
+        Optional<ReadOnlyAddressBook> addressBook = sourceStorage.readAddressBook(filePath);
+        persistedAddressBook = addressBook.orElse(null);
+        return addressBook;
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, getAddressBookFilePath());
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * {@code addressBook} must not be modified after it is handed over, as it may be written to the cache later.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(getAddressBookFilePath())) {
+            sourceStorage.saveAddressBook(addressBook, filePath);
+            return;
+        }
+
+        persistedAddressBook = null;
+        isCacheUpToDate = false;
+        sourceStorage.saveAddressBook(addressBook, filePath);
+        persistedAddressBook = addressBook;
+    }
+
+    /**
+     * Writes the data last read from or saved to the source into the cache.
+     * Does nothing if the cache is already up to date, or if the data in the source is not known,
+     * e.g. because the last save failed.
+     */
+    public void saveCache() throws IOException {
+        if (isCacheUpToDate || persistedAddressBook == null) {
+            return;
+        }
+
+        long[] sourceStamp = getSourceStamp();
+        ReadOnlyAddressBook addressBook = persistedAddressBook;
+        FileUtil.writeAtomically(cacheFilePath, out -> {
+            BufferedOutputStream bufferedOut = new BufferedOutputStream(out);
+            CheckedOutputStream checkedOut = new CheckedOutputStream(bufferedOut, new CRC32());
+            DataOutputStream dataOut = new DataOutputStream(checkedOut);
+            writeCache(dataOut, sourceStamp, addressBook.getCompanyList());
+            dataOut.flush();
+
+            new DataOutputStream(bufferedOut).writeLong(checkedOut.getChecksum().getValue());
+            bufferedOut.close();
+        });
+        isCacheUpToDate = true;
+        logger.fine("Saved address book cache to " + cacheFilePath);
+    }
+
+    /**
+     * Returns the size and last modified time of each source file, or -1 for both if the file does not exist.
+     */
+    private long[] getSourceStamp() throws IOException {
+        long[] stamp = new long[sourceFilePaths.size() * 2];
+        for (int i = 0; i < sourceFilePaths.size(); i++) {
+            Path sourceFilePath = sourceFilePaths.get(i);
+            boolean isPresent = Files.exists(sourceFilePath);
+            stamp[2 * i] = isPresent ? Files.size(sourceFilePath) : -1;
+            stamp[2 * i + 1] = isPresent ? Files.getLastModifiedTime(sourceFilePath).toMillis() : -1;
+        }
+        return stamp;
+    }
+
+    /**
+     * Returns the address book in the cache, or an empty {@code Optional} if there is no cache, or the cache
+     * is unreadable or does not match the current source files.
+     */
+    private Optional<AddressBook> readCache() {
+        if (!Files.exists(cacheFilePath) || !Files.exists(getAddressBookFilePath())) {
+            return Optional.empty();
+        }
+
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(cacheFilePath))) {
+            long sizeLimit = Files.size(cacheFilePath);
+            CheckedInputStream checkedIn = new CheckedInputStream(in, new CRC32());
+            DataInputStream dataIn = new DataInputStream(checkedIn);
+            if (dataIn.readInt() != MAGIC_NUMBER || dataIn.readInt() != FORMAT_VERSION) {
+                logger.info("Ignoring address book cache " + cacheFilePath + " in an unknown format.");
+                return Optional.empty();
+            }
+
+            long[] sourceStamp = getSourceStamp();
+            for (long expected : sourceStamp) {
+                if (dataIn.readLong() != expected) {
+                    logger.info("Ignoring outdated address book cache " + cacheFilePath);
+                    return Optional.empty();
+                }
+            }
+
+            List<Company> companies = readCompanies(dataIn, sizeLimit);
+            long checksum = checkedIn.getChecksum().getValue();
+            if (new DataInputStream(in).readLong() != checksum || in.read() != -1) {
+                logger.warning("Ignoring corrupted address book cache " + cacheFilePath);
+                return Optional.empty();
+            }
+
+            AddressBook addressBook = new AddressBook();
+            addressBook.setCompanies(companies);
+            logger.info("Loaded address book from cache " + cacheFilePath);
+            return Optional.of(addressBook);
+        } catch (IOException | RuntimeException e) {
+            // constructing the model's objects from corrupted data may fail in many ways
+            logger.warning("Ignoring unreadable address book cache " + cacheFilePath + ": " + e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Writes the header, the table of distinct tags, and then each company, with tags as indices into the table.
+     */
+    private static void writeCache(DataOutputStream out, long[] sourceStamp, List<Company> companies)
+            throws IOException {
+        out.writeInt(MAGIC_NUMBER);
+        out.writeInt(FORMAT_VERSION);
+        for (long value : sourceStamp) {
+            out.writeLong(value);
+        }
+
+        Map<Tag, Integer> tagIndices = new LinkedHashMap<>();
+        for (Company company : companies) {
+            for (Tag tag : company.getTags()) {
+                tagIndices.putIfAbsent(tag, tagIndices.size());
+            }
+        }
+        out.writeInt(tagIndices.size());
+        for (Tag tag : tagIndices.keySet()) {
+            writeString(out, tag.tagName);
+        }
+
+        out.writeInt(companies.size());
+        for (Company company : companies) {
+            writeString(out, company.getName().fullName);
+            writeString(out, company.getPhone().value);
+            writeString(out, company.getEmail().value);
+            writeString(out, company.getAddress().value);
+            writeString(out, company.getRemark().value);
+            out.writeByte(company.getStatus().value.ordinal());
+            out.writeInt(company.getTags().size());
+            for (Tag tag : company.getTags()) {
+                out.writeInt(tagIndices.get(tag));
+            }
+        }
+    }
+
+    /**
+     * Reads the table of distinct tags and the companies written by {@link #writeCache}.
+     * Each distinct tag is only constructed once, and shared by every company that has it.
+     *
+     * @param sizeLimit upper bound on any length read, so corrupted lengths cannot cause huge allocations.
+     */
+    private static List<Company> readCompanies(DataInputStream in, long sizeLimit) throws IOException {
+        Tag[] tags = new Tag[readLength(in, sizeLimit)];
+        for (int i = 0; i < tags.length; i++) {
+            tags[i] = new Tag(readString(in, sizeLimit));
+        }
+
+        Status.Stage[] stages = Status.Stage.values();
+        Map<Status.Stage, Status> statuses = new HashMap<>();
+        int companyCount = readLength(in, sizeLimit);
+        List<Company> companies = new ArrayList<>(companyCount);
+        for (int i = 0; i < companyCount; i++) {
+            Name name = new Name(readString(in, sizeLimit));
+            Phone phone = new Phone(readString(in, sizeLimit));
+            Email email = new Email(readString(in, sizeLimit));
+            Address address = new Address(readString(in, sizeLimit));
+            Remark remark = new Remark(readString(in, sizeLimit));
+            Status status = statuses.computeIfAbsent(stages[in.readUnsignedByte()], Status::new);
+
+            int tagCount = readLength(in, sizeLimit);
+            Set<Tag> companyTags = new HashSet<>();
+            for (int j = 0; j < tagCount; j++) {
+                companyTags.add(tags[in.readInt()]);
+            }
+            companies.add(new Company(name, phone, email, address, companyTags, remark, status));
+        }
+        return companies;
+    }
+
+    /**
+     * Writes {@code value}, which may be null, as its length in UTF-8 bytes followed by the bytes.
+     */
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(NULL_LENGTH);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in, long sizeLimit) throws IOException {
+        int length = in.readInt();
+        if (length == NULL_LENGTH) {
+            return null;
+        }
+        if (length < 0 || length > sizeLimit) {
+            throw new IOException("Invalid string length: " + length);
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static int readLength(DataInputStream in, long sizeLimit) throws IOException {
+        int length = in.readInt();
+        if (length < 0 || length > sizeLimit) {
+            throw new IOException("Invalid length: " + length);
+        }
+        return length;
+    }
+
+}
@@ -0,0 +1,291 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonLocation;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.company.Company;
+import seedu.address.model.company.CompanyListChange;
+import seedu.address.model.company.exceptions.DuplicateCompanyException;
+
+/**
+ * A class to access AddressBook data stored as a json snapshot file, plus a journal of the changes made since
+ * the snapshot was written.
+ * Saving appends only the companies that changed to the journal, one entry per change the address book reports
+ * since the last save, see {@link AddressBook#getChangesSince(long)}. Once the journal has recorded about as many
+ * companies as the address book holds, or the changes are not known, it is compacted into a new snapshot.
+ * A journal is only replayed on top of the snapshot file it was started for, so a snapshot that is replaced
+ * by other means, e.g. edited by hand, makes the journal obsolete.
+ */
+public class JournaledAddressBookStorage implements AddressBookStorage {
+
+    /** Minimum number of changed companies to journal before compacting, so small books are not compacted often. */
+    static final int MIN_COMPACTION_INTERVAL = 64;
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+
+    private static final String JOURNAL_FILE_SUFFIX = ".journal";
+
+    private final JsonAddressBookStorage snapshotStorage;
+    private final Path journalFilePath;
+
+    /**
+     * Version of the data in the snapshot with the journal replayed on top, or empty if the journal must be
+     * restarted.
+     */
+    private OptionalLong persistedVersion = OptionalLong.empty();
+    /** Number of companies changed by the entries in the journal. */
+    private int journaledCount;
+
+    /**
+     * Creates a {@code JournaledAddressBookStorage} that keeps its snapshots in {@code snapshotStorage}, and its
+     * journal in a file next to the snapshot file.
+     */
+    public JournaledAddressBookStorage(JsonAddressBookStorage snapshotStorage) {
+        requireNonNull(snapshotStorage);
+        this.snapshotStorage = snapshotStorage;
+        this.journalFilePath = getJournalFilePath(snapshotStorage.getAddressBookFilePath());
+    }
+
+    /**
+     * Returns the location of the journal for the snapshot file at {@code snapshotFilePath}.
+     */
+    static Path getJournalFilePath(Path snapshotFilePath) {
+        return snapshotFilePath.resolveSibling(snapshotFilePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return snapshotStorage.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(getAddressBookFilePath());
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * The journal is only replayed when reading from this storage's own file path.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        Optional<ReadOnlyAddressBook> snapshot = snapshotStorage.readAddressBook(filePath);
+        if (!filePath.equals(getAddressBookFilePath())) {
+            return snapshot;
+        }
+
+        persistedVersion = OptionalLong.empty();
+        if (!snapshot.isPresent()) {
+            return snapshot;
+        }
+
+        List<Company> companies = new ArrayList<>(snapshot.get().getCompanyList());
+        boolean isJournalReplayed = replayJournal(companies);
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setCompanies(companies);
+        } catch (DuplicateCompanyException e) {
+            logger.info("Illegal values found in " + journalFilePath + ": " + e.getMessage());
+            throw new DataLoadingException(e);
+        }
+
+        if (isJournalReplayed) {
+            persistedVersion = OptionalLong.of(addressBook.getVersion());
+        }
+        return Optional.of(addressBook);
+    }
+
+    /**
+     * Applies the entries in the journal to {@code companies}, which hold the contents of the snapshot file.
+     * An entry cut short by an interrupted save, which can only be the last thing in the journal, is discarded.
+     * Returns false if there is no journal for the current snapshot file, in which case nothing is applied.
+     */
+    private boolean replayJournal(List<Company> companies) throws DataLoadingException {
+        if (!Files.exists(journalFilePath)) {
+            return false;
+        }
+
+        journaledCount = 0;
+        long validLength = 0;
+        try (JsonParser parser = JsonUtil.createJsonParser(journalFilePath)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT
+                    || !isJournalOfSnapshot(parser.readValueAs(JsonAdaptedJournalHeader.class))) {
+                logger.info("Ignoring journal " + journalFilePath + " as it belongs to a different snapshot.");
+                return false;
+            }
+
+            try {
+                validLength = parser.getCurrentLocation().getByteOffset();
+                while (parser.nextToken() != null) {
+                    JsonAdaptedJournalEntry entry = parser.readValueAs(JsonAdaptedJournalEntry.class);
+                    entry.applyTo(companies);
+                    journaledCount += entry.getChangedCount();
+                    validLength = parser.getCurrentLocation().getByteOffset();
+                }
+                return true;
+            } catch (JsonProcessingException e) {
+                if (!isBlankAfter(journalFilePath, getFailureOffset(e, parser))) {
+                    // the entries after a corrupt one may still be valid, so the journal is left untouched
+                    logger.info("Corrupt entry found in journal " + journalFilePath + ": " + e);
+                    throw new DataLoadingException(e);
+                }
+                logger.warning("Discarding incomplete entry at the end of journal " + journalFilePath + ": " + e);
+            }
+        } catch (IOException e) {
+            logger.warning("Error reading from journal file " + journalFilePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + journalFilePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+
+        try {
+            FileUtil.truncateFile(journalFilePath, validLength);
+        } catch (IOException e) {
+            logger.warning("Error truncating journal file " + journalFilePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+        return true;
+    }
+
+    private static long getFailureOffset(JsonProcessingException e, JsonParser parser) {
+        JsonLocation location = e.getLocation();
+        if (location != null && location.getByteOffset() >= 0) {
+            return location.getByteOffset();
+        }
+        return parser.getCurrentLocation().getByteOffset();
+    }
+
+    /**
+     * Returns true if the file at {@code filePath} holds nothing but whitespace after the first {@code offset} bytes.
+     */
+    private static boolean isBlankAfter(Path filePath, long offset) throws IOException {
+        try (SeekableByteChannel channel = Files.newByteChannel(filePath)) {
+            channel.position(offset);
+            InputStream in = new BufferedInputStream(Channels.newInputStream(channel));
+            for (int b = in.read(); b != -1; b = in.read()) {
+                if (!Character.isWhitespace(b)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    private boolean isJournalOfSnapshot(JsonAdaptedJournalHeader header) throws IOException {
+        Path snapshotFilePath = getAddressBookFilePath();
+        return header.isHeaderOf(Files.size(snapshotFilePath), Files.getLastModifiedTime(snapshotFilePath).toMillis());
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, getAddressBookFilePath());
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Saving to a file path other than this storage's own writes a plain snapshot there, without a journal.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(getAddressBookFilePath())) {
+            snapshotStorage.saveAddressBook(addressBook, filePath);
+            return;
+        }
+
+        // the address book must not change during the save, as its version and changes are read separately
+        long version = addressBook.getVersion();
+        Optional<List<CompanyListChange>> changes = Optional.empty();
+        if (persistedVersion.isPresent() && addressBook instanceof AddressBook
+                && journaledCount < Math.max(addressBook.getCompanyList().size(), MIN_COMPACTION_INTERVAL)) {
+            changes = ((AddressBook) addressBook).getChangesSince(persistedVersion.getAsLong());
+        }
+        if (!changes.isPresent()) {
+            compact(addressBook, version);
+            return;
+        }
+        if (changes.get().isEmpty()) {
+            return;
+        }
+
+        ByteArrayOutputStream entries = new ByteArrayOutputStream();
+        int changedCount = 0;
+        for (CompanyListChange change : changes.get()) {
+            entries.write(toJournalLine(new JsonAdaptedJournalEntry(change)));
+            changedCount += change.getChangedCount();
+        }
+
+        // if appending fails, the journal may end with a partial entry, so the next save starts a new one
+        persistedVersion = OptionalLong.empty();
+        FileUtil.appendToFile(journalFilePath, entries.toByteArray());
+        persistedVersion = OptionalLong.of(version);
+        journaledCount += changedCount;
+    }
+
+    /**
+     * Writes {@code addressBook}, which is at {@code version}, as a new snapshot, and starts an empty journal for it.
+     */
+    private void compact(ReadOnlyAddressBook addressBook, long version) throws IOException {
+        logger.fine("Compacting journal " + journalFilePath + " into a new snapshot");
+        persistedVersion = OptionalLong.empty();
+
+        Path snapshotFilePath = getAddressBookFilePath();
+        snapshotStorage.saveAddressBook(addressBook, snapshotFilePath);
+        JsonAdaptedJournalHeader header = new JsonAdaptedJournalHeader(Files.size(snapshotFilePath),
+                Files.getLastModifiedTime(snapshotFilePath).toMillis());
+        byte[] headerLine = toJournalLine(header);
+        FileUtil.writeAtomically(journalFilePath, out -> out.write(headerLine));
+
+        persistedVersion = OptionalLong.of(version);
+        journaledCount = 0;
+    }
+
+    /**
+     * Returns {@code value} as a single line of compact JSON.
+     */
+    private static byte[] toJournalLine(Object value) throws IOException {
+        ByteArrayOutputStream line = new ByteArrayOutputStream();
+        try (JsonGenerator generator = JsonUtil.createJsonGenerator(line, false)) {
+            generator.writeObject(value);
+            generator.writeRaw('\n');
+        }
+        return line.toByteArray();
+    }
+
+}
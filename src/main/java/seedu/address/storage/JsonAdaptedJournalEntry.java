@@ -0,0 +1,84 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.company.Company;
+import seedu.address.model.company.CompanyListChange;
+
+/**
+ * Jackson-friendly record of a change to an address book's company list.
+ * The change replaces {@code removedCount} companies starting at {@code index} with the {@code added} companies.
+ */
+class JsonAdaptedJournalEntry {
+
+    public static final String MESSAGE_INVALID_RANGE = "Journal entry does not fit the company list";
+
+    private final int index;
+    private final int removedCount;
+    private final List<JsonAdaptedCompany> added = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given change details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(@JsonProperty("index") int index, @JsonProperty("removedCount") int removedCount,
+                                   @JsonProperty("added") List<JsonAdaptedCompany> added) {
+        this.index = index;
+        this.removedCount = removedCount;
+        if (added != null) {
+            this.added.addAll(added);
+        }
+    }
+
+    /**
+     * Converts a given {@code CompanyListChange} into this class for Jackson use.
+     */
+    public JsonAdaptedJournalEntry(CompanyListChange source) {
+        index = source.getIndex();
+        removedCount = source.getRemovedCount();
+        added.addAll(source.getAddedCompanies().stream()
+                .map(JsonAdaptedCompany::new)
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * Returns the number of companies removed and added by this entry.
+     */
+    public int getChangedCount() {
+        return removedCount + added.size();
+    }
+
+    /**
+     * Applies this change to {@code companies}.
+     *
+     * @throws IllegalValueException if the change does not fit {@code companies}, or there were any data
+     *     constraints violated in the added companies.
+     */
+    public void applyTo(List<Company> companies) throws IllegalValueException {
+        if (index < 0 || removedCount < 0 || index + removedCount > companies.size()) {
+            throw new IllegalValueException(MESSAGE_INVALID_RANGE);
+        }
+
+        List<Company> addedCompanies = new ArrayList<>();
+        for (JsonAdaptedCompany company : added) {
+            addedCompanies.add(company.toModelType());
+        }
+        List<Company> changedRange = companies.subList(index, index + removedCount);
+        if (addedCompanies.size() == removedCount) {
+            // replaced in place, so the companies after the range are not shifted twice
+            for (int i = 0; i < removedCount; i++) {
+                changedRange.set(i, addedCompanies.get(i));
+            }
+        } else {
+            changedRange.clear();
+            changedRange.addAll(addedCompanies);
+        }
+    }
+
+}
@@ -0,0 +1,32 @@
+package seedu.address.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Jackson-friendly header of an address book journal.
+ * Identifies the snapshot file that the journal entries following it apply to.
+ */
+class JsonAdaptedJournalHeader {
+
+    private final long snapshotSize;
+    private final long snapshotLastModified;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalHeader} for a snapshot file with the given size and last modified time.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalHeader(@JsonProperty("snapshotSize") long snapshotSize,
+                                    @JsonProperty("snapshotLastModified") long snapshotLastModified) {
+        this.snapshotSize = snapshotSize;
+        this.snapshotLastModified = snapshotLastModified;
+    }
+
+    /**
+     * Returns true if this header was written for a snapshot file with the given size and last modified time.
+     */
+    public boolean isHeaderOf(long snapshotSize, long snapshotLastModified) {
+        return this.snapshotSize == snapshotSize && this.snapshotLastModified == snapshotLastModified;
+    }
+
+}
@@ -3,28 +3,80 @@ package seedu.address.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.company.Company;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
+ * Optionally keeps copies of the previous generations of the file, which are used if the file becomes unreadable.
  */
 public class JsonAddressBookStorage implements AddressBookStorage {
 
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
+    private static final String BACKUP_FILE_SUFFIX = ".bak";
+    private static final String CORRUPT_FILE_SUFFIX = ".corrupt";
+    private static final String MESSAGE_RECOVERED_FROM_BACKUP =
+            "The data file %1$s could not be read, so the data was loaded from the backup %2$s.";
+    private static final String MESSAGE_UNREADABLE_FILE_MOVED = " The unreadable file was moved to %1$s.";
+    /** Number of companies parsed before they are converted together. */
+    private static final int CONVERSION_BATCH_SIZE = 4096;
+
     private Path filePath;
+    private final boolean isPrettyPrinted;
+    private final int backupCount;
+    private String recoveryMessage;
 
     public JsonAddressBookStorage(Path filePath) {
+        this(filePath, true, 0);
+    }
+
+    /**
+     * Creates a {@code JsonAddressBookStorage} for the file at {@code filePath}.
+     *
+     * @param isPrettyPrinted whether saved files are indented for readability, rather than written compactly.
+     * @param backupCount number of previous generations of the file to keep. Cannot be negative.
+     */
+    public JsonAddressBookStorage(Path filePath, boolean isPrettyPrinted, int backupCount) {
+        if (backupCount < 0) {
+            throw new IllegalArgumentException("Backup count cannot be negative: " + backupCount);
+        }
         this.filePath = filePath;
+        this.isPrettyPrinted = isPrettyPrinted;
+        this.backupCount = backupCount;
+    }
+
+    /**
+     * Returns the location of the {@code generation}-th most recent backup of {@code filePath}, counting from 1.
+     */
+    static Path getBackupFilePath(Path filePath, int generation) {
+        return filePath.resolveSibling(filePath.getFileName() + BACKUP_FILE_SUFFIX + generation);
+    }
+
+    /**
+     * Returns the location an unreadable {@code filePath} is moved to before it is restored from a backup.
+     */
+    static Path getCorruptFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + CORRUPT_FILE_SUFFIX);
     }
 
     public Path getAddressBookFilePath() {
@@ -38,27 +90,135 @@ public class JsonAddressBookStorage implements AddressBookStorage {
 
     /**
      * Similar to {@link #readAddressBook()}.
+     * If the file cannot be loaded, it is moved aside, and its most recent loadable backup is restored in its place
+     * and returned instead. {@link #getRecoveryMessage()} then describes the recovery.
      *
      * @param filePath location of the data. Cannot be null.
-     * @throws DataLoadingException if loading the data from storage failed.
+     * @throws DataLoadingException if loading the data from storage failed and no backup could be loaded either.
      */
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
+        if (!Files.exists(filePath)) {
             return Optional.empty();
         }
+        logger.info("JSON file " + filePath + " found.");
 
+        recoveryMessage = null;
         try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+            return Optional.of(readAddressBookFile(filePath));
+        } catch (DataLoadingException e) {
+            return Optional.of(recoverFromBackup(filePath).orElseThrow(() -> e));
+        }
+    }
+
+    /**
+     * Returns the address book in the most recent loadable backup of {@code filePath}, after moving the unreadable
+     * {@code filePath} aside and copying that backup in its place. Returns an empty {@code Optional} if no backup
+     * can be loaded.
+     */
+    private Optional<AddressBook> recoverFromBackup(Path filePath) {
+        for (int generation = 1; generation <= backupCount; generation++) {
+            Path backupFilePath = getBackupFilePath(filePath, generation);
+            if (!Files.exists(backupFilePath)) {
+                continue;
+            }
+
+            AddressBook addressBook;
+            try {
+                addressBook = readAddressBookFile(backupFilePath);
+            } catch (DataLoadingException e) {
+                continue;
+            }
+
+            logger.warning("Recovered data from backup file " + backupFilePath);
+            String message = String.format(MESSAGE_RECOVERED_FROM_BACKUP, filePath, backupFilePath);
+            Path corruptFilePath = getCorruptFilePath(filePath);
+            try {
+                // the unreadable file is kept, as it may hold changes made since the backup that can still be salvaged
+                Files.move(filePath, corruptFilePath, StandardCopyOption.REPLACE_EXISTING);
+                message += String.format(MESSAGE_UNREADABLE_FILE_MOVED, corruptFilePath);
+                Files.copy(backupFilePath, filePath);
+            } catch (IOException e) {
+                logger.warning("Failed to restore " + filePath + " from " + backupFilePath + ": " + e);
+            }
+            recoveryMessage = message;
+            return Optional.of(addressBook);
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Returns a message describing how the data was recovered from a backup, if the last read of the file had to
+     * recover it.
+     */
+    public Optional<String> getRecoveryMessage() {
+        return Optional.ofNullable(recoveryMessage);
+    }
+
+    /**
+     * Reads the address book in the file at {@code filePath}, which must exist.
+     * The file is streamed, and each company is converted to the model's {@code Company} as soon as it is read,
+     * so the whole file is never held in memory at once.
+     */
+    private AddressBook readAddressBookFile(Path filePath) throws DataLoadingException {
+        try (JsonParser parser = JsonUtil.createJsonParser(filePath)) {
+            return readAddressBookFrom(parser);
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
         }
     }
 
+    /**
+     * Reads an address book object from {@code parser}. Companies are parsed in batches, and each batch is
+     * converted to the model's {@code Company} objects in parallel while holding only that batch in memory.
+     * Fields other than the companies array are skipped.
+     *
+     * @throws IllegalValueException listing every company that violates any data constraints.
+     */
+    private AddressBook readAddressBookFrom(JsonParser parser) throws IOException, IllegalValueException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Expected the address book to be a JSON object");
+        }
+
+        List<Company> companies = new ArrayList<>();
+        List<String> errors = new ArrayList<>();
+        boolean hasCompanies = false;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken valueToken = parser.nextToken();
+            if (!JsonSerializableAddressBook.COMPANIES_FIELD_NAME.equals(fieldName)) {
+                parser.skipChildren();
+                continue;
+            }
+            if (valueToken != JsonToken.START_ARRAY) {
+                throw new JsonParseException(parser, "Expected the companies field to be a JSON array");
+            }
+
+            hasCompanies = true;
+            List<JsonAdaptedCompany> batch = new ArrayList<>();
+            int batchIndex = 0;
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                batch.add(parser.readValueAs(JsonAdaptedCompany.class));
+                if (batch.size() == CONVERSION_BATCH_SIZE) {
+                    JsonSerializableAddressBook.addCompanies(companies, batch, batchIndex, errors);
+                    batchIndex += batch.size();
+                    batch.clear();
+                }
+            }
+            JsonSerializableAddressBook.addCompanies(companies, batch, batchIndex, errors);
+        }
+
+        if (!hasCompanies) {
+            throw new JsonParseException(parser, "Missing companies field in address book");
+        }
+        return JsonSerializableAddressBook.toAddressBook(companies, errors);
+    }
+
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
         saveAddressBook(addressBook, filePath);
@@ -66,6 +226,8 @@ public class JsonAddressBookStorage implements AddressBookStorage {
 
     /**
      * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Companies are streamed to the file one at a time, so the whole document is never built in memory.
+     * The file is replaced atomically, so it is never left partially written.
      *
      * @param filePath location of the data. Cannot be null.
      */
@@ -73,8 +235,38 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        rotateBackups(filePath);
+        FileUtil.writeAtomically(filePath, out -> {
+            try (JsonGenerator generator = JsonUtil.createJsonGenerator(out, isPrettyPrinted)) {
+                generator.writeStartObject();
+                generator.writeArrayFieldStart(JsonSerializableAddressBook.COMPANIES_FIELD_NAME);
+                for (Company company : addressBook.getCompanyList()) {
+                    generator.writeObject(new JsonAdaptedCompany(company));
+                }
+                generator.writeEndArray();
+                generator.writeEndObject();
+            }
+        });
+    }
+
+    /**
+     * Shifts each backup of {@code filePath} one generation back, dropping the oldest,
+     * and copies {@code filePath} to the most recent backup.
+     * The file is copied rather than moved so that it is never missing while the new version is written.
+     */
+    private void rotateBackups(Path filePath) throws IOException {
+        if (backupCount == 0 || !Files.exists(filePath)) {
+            return;
+        }
+
+        for (int generation = backupCount - 1; generation >= 1; generation--) {
+            Path backupFilePath = getBackupFilePath(filePath, generation);
+            if (Files.exists(backupFilePath)) {
+                Files.move(backupFilePath, getBackupFilePath(filePath, generation + 1),
+                        StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        Files.copy(filePath, getBackupFilePath(filePath, 1), StandardCopyOption.REPLACE_EXISTING);
     }
 
 }
@@ -3,6 +3,7 @@ package seedu.address.storage;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
@@ -12,6 +13,8 @@ import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.company.Company;
+import seedu.address.model.company.Name;
+import seedu.address.model.company.exceptions.DuplicateCompanyException;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
@@ -19,7 +22,10 @@ import seedu.address.model.company.Company;
 @JsonRootName(value = "addressbook")
 class JsonSerializableAddressBook {
 
-    public static final String MESSAGE_DUPLICATE_COMPANY = "companies list contains duplicate company(s).";
+    public static final String MESSAGE_DUPLICATE_COMPANY = "companies list contains duplicate company(s): %s";
+    public static final String MESSAGE_INVALID_COMPANY_FORMAT = "Company %d: %s";
+
+    static final String COMPANIES_FIELD_NAME = "companies";
 
     private final List<JsonAdaptedCompany> companies = new ArrayList<>();
 
@@ -27,7 +33,7 @@ class JsonSerializableAddressBook {
      * Constructs a {@code JsonSerializableAddressBook} with the given companies.
      */
     @JsonCreator
-    public JsonSerializableAddressBook(@JsonProperty("companies") List<JsonAdaptedCompany> companies) {
+    public JsonSerializableAddressBook(@JsonProperty(COMPANIES_FIELD_NAME) List<JsonAdaptedCompany> companies) {
         this.companies.addAll(companies);
     }
 
@@ -43,16 +49,63 @@ class JsonSerializableAddressBook {
     /**
      * Converts this address book into the model's {@code AddressBook} object.
      *
-     * @throws IllegalValueException if there were any data constraints violated.
+     * @throws IllegalValueException if there were any data constraints violated, listing every violation.
      */
     public AddressBook toModelType() throws IllegalValueException {
-        AddressBook addressBook = new AddressBook();
-        for (JsonAdaptedCompany jsonAdaptedCompany : companies) {
-            Company company = jsonAdaptedCompany.toModelType();
-            if (addressBook.hasCompany(company)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_COMPANY);
+        List<Company> modelCompanies = new ArrayList<>(companies.size());
+        List<String> errors = new ArrayList<>();
+        addCompanies(modelCompanies, companies, 0, errors);
+        return toAddressBook(modelCompanies, errors);
+    }
+
+    /**
+     * Converts {@code jsonAdaptedCompanies} into the model's {@code Company} objects in parallel, then adds them
+     * to {@code modelCompanies} in order.
+     * A message is added to {@code errors} for each company that violates any data constraints, and the other
+     * companies are still added, so that duplicates among them can be reported as well.
+     *
+     * @param firstIndex index of the first of {@code jsonAdaptedCompanies} in the whole list of companies.
+     */
+    static void addCompanies(List<Company> modelCompanies, List<JsonAdaptedCompany> jsonAdaptedCompanies,
+            int firstIndex, List<String> errors) {
+        Company[] converted = new Company[jsonAdaptedCompanies.size()];
+        String[] conversionErrors = new String[jsonAdaptedCompanies.size()];
+        IntStream.range(0, converted.length).parallel().forEach(i -> {
+            try {
+                converted[i] = jsonAdaptedCompanies.get(i).toModelType();
+            } catch (IllegalValueException ive) {
+                conversionErrors[i] = String.format(MESSAGE_INVALID_COMPANY_FORMAT, firstIndex + i + 1,
+                        ive.getMessage());
+            }
+        });
+
+        for (int i = 0; i < converted.length; i++) {
+            if (conversionErrors[i] != null) {
+                errors.add(conversionErrors[i]);
+            } else {
+                modelCompanies.add(converted[i]);
             }
-            addressBook.addCompany(company);
+        }
+    }
+
+    /**
+     * Returns an {@code AddressBook} of {@code modelCompanies}.
+     *
+     * @param errors messages for the companies that could not be converted.
+     * @throws IllegalValueException listing {@code errors} along with any duplicate companies, if there are any.
+     */
+    static AddressBook toAddressBook(List<Company> modelCompanies, List<String> errors) throws IllegalValueException {
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setCompanies(modelCompanies);
+        } catch (DuplicateCompanyException e) {
+            errors.add(String.format(MESSAGE_DUPLICATE_COMPANY, e.getDuplicateNames().stream()
+                    .map(Name::toString)
+                    .collect(Collectors.joining(", "))));
+        }
+
+        if (!errors.isEmpty()) {
+            throw new IllegalValueException(String.join("\n", errors));
         }
         return addressBook;
     }
@@ -20,6 +20,15 @@ public class StorageManager implements Storage {
     private AddressBookStorage addressBookStorage;
     private UserPrefsStorage userPrefsStorage;
 
+    /**
+     * Location and version of the address book data last saved through this manager, if any.
+     * Saves may come from the background saver and from the application thread, so both are guarded by
+     * {@code saveLock}, which is held across each save to keep them in step with the file.
+     */
+    private final Object saveLock = new Object();
+    private Path lastSavedFilePath;
+    private long lastSavedVersion;
+
     /**
      * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}.
      */
@@ -71,8 +80,19 @@ public class StorageManager implements Storage {
 
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
-        logger.fine("Attempting to write to data file: " + filePath);
-        addressBookStorage.saveAddressBook(addressBook, filePath);
+        synchronized (saveLock) {
+            // the version is read before writing, so data modified during the write is written again next time
+            long version = addressBook.getVersion();
+            if (filePath.equals(lastSavedFilePath) && version == lastSavedVersion) {
+                logger.fine("Skipping write of unchanged data to data file: " + filePath);
+                return;
+            }
+
+            logger.fine("Attempting to write to data file: " + filePath);
+            addressBookStorage.saveAddressBook(addressBook, filePath);
+            lastSavedFilePath = filePath;
+            lastSavedVersion = version;
+        }
     }
 
 }
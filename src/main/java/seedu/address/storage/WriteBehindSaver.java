@@ -0,0 +1,102 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Saves address book snapshots to an {@code AddressBookStorage} off the calling thread.
+ * Save requests that arrive while an earlier save is still queued are merged, so only the most recent
+ * snapshot is written.
+ */
+public class WriteBehindSaver {
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindSaver.class);
+
+    private final AddressBookStorage storage;
+    private final Executor executor;
+
+    /** The latest snapshot that has not been picked up by a save task yet, or null if there is none. */
+    private final AtomicReference<ReadOnlyAddressBook> pendingSnapshot = new AtomicReference<>();
+
+    private volatile Consumer<IOException> failureHandler = e ->
+            logger.warning("Failed to save address book: " + StringUtil.getDetails(e));
+
+    /**
+     * Creates a {@code WriteBehindSaver} that writes to {@code storage} on a dedicated background thread.
+     */
+    public WriteBehindSaver(AddressBookStorage storage) {
+        this(storage, Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "address-book-saver");
+            thread.setDaemon(true);
+            return thread;
+        }));
+    }
+
+    /**
+     * Creates a {@code WriteBehindSaver} that runs its save tasks on {@code executor}.
+     * {@code executor} must run tasks one at a time, in submission order.
+     */
+    public WriteBehindSaver(AddressBookStorage storage, Executor executor) {
+        requireNonNull(storage);
+        requireNonNull(executor);
+        this.storage = storage;
+        this.executor = executor;
+    }
+
+    /**
+     * Sets the handler to be notified, on the saving thread, when a save fails.
+     */
+    public void setFailureHandler(Consumer<IOException> failureHandler) {
+        requireNonNull(failureHandler);
+        this.failureHandler = failureHandler;
+    }
+
+    /**
+     * Schedules {@code snapshot} to be saved.
+     * {@code snapshot} must not be modified after it is handed over.
+     */
+    public void requestSave(ReadOnlyAddressBook snapshot) {
+        requireNonNull(snapshot);
+        if (pendingSnapshot.getAndSet(snapshot) == null) {
+            executor.execute(this::saveLatestSnapshot);
+        }
+    }
+
+    /**
+     * Blocks until every save requested before this call has been attempted.
+     */
+    public void flush() {
+        CountDownLatch saved = new CountDownLatch(1);
+        executor.execute(saved::countDown);
+        try {
+            saved.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.warning("Interrupted while waiting for pending saves to complete");
+        }
+    }
+
+    private void saveLatestSnapshot() {
+        ReadOnlyAddressBook snapshot = pendingSnapshot.getAndSet(null);
+        if (snapshot == null) {
+            return;
+        }
+
+        try {
+            storage.saveAddressBook(snapshot);
+        } catch (IOException e) {
+            failureHandler.accept(e);
+        }
+    }
+}
@@ -73,4 +73,8 @@ public class CompanyListPanel extends UiPart<Region> {
     public void setFeedbackToUser(String feedbackToUser) {
         resultDisplay.setFeedbackToUser(feedbackToUser);
     }
+
+    public void appendFeedbackToUser(String feedbackToUser) {
+        resultDisplay.appendFeedbackToUser(feedbackToUser);
+    }
 }
@@ -2,6 +2,7 @@ package seedu.address.ui;
 
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
@@ -70,6 +71,7 @@ public class MainWindow extends ClosableWindow {
 
         helpWindow = new HelpWindow();
         metricsWindow = new MetricsWindow();
+        metricsWindow.bind(logic.getMetrics());
     }
 
     public Stage getPrimaryStage() {
@@ -116,6 +118,8 @@ public class MainWindow extends ClosableWindow {
     void fillInnerParts() {
         companyListPanel = new CompanyListPanel(logic.getFilteredCompanyList());
         companyListPanelPlaceholder.getChildren().add(companyListPanel.getRoot());
+        // A save fails in the background, possibly after the next command's result is shown, so it must not replace it
+        logic.setSaveFailureHandler(message -> Platform.runLater(() -> companyListPanel.appendFeedbackToUser(message)));
 
         StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
@@ -163,15 +167,12 @@ public class MainWindow extends ClosableWindow {
     @FXML
     public void handleMetrics() {
         if (!metricsWindow.isShowing()) {
-            metricsWindow.setData(logic.getAddressBook());
             metricsWindow.show();
         } else {
             // Check if the window is minimized (iconified)
             if (metricsWindow.getRoot().isIconified()) {
                 metricsWindow.getRoot().setIconified(false);
             }
-            // Update data before focusing
-            metricsWindow.setData(logic.getAddressBook());
         }
         metricsWindow.focus();
     }
@@ -207,11 +208,6 @@ public class MainWindow extends ClosableWindow {
             logger.info("Result: " + commandResult.getFeedbackToUser());
             companyListPanel.setFeedbackToUser(commandResult.getFeedbackToUser());
 
-            // Auto-update metrics window if it's showing as split screen
-            if (metricsWindow.isShowing()) {
-                metricsWindow.setData(logic.getAddressBook());
-            }
-
             if (commandResult.isShowHelp()) {
                 handleHelp();
             }
@@ -1,7 +1,10 @@
 package seedu.address.ui;
 
+import static java.util.Objects.requireNonNull;
+
 import java.util.logging.Logger;
 
+import javafx.beans.value.ObservableValue;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.control.Separator;
@@ -9,7 +12,6 @@ import javafx.scene.layout.VBox;
 import javafx.stage.Stage;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.MetricsCalculator;
-import seedu.address.model.ReadOnlyAddressBook;
 
 /**
  * Controller for the metrics window that displays application status statistics.
@@ -22,8 +24,7 @@ public class MetricsWindow extends ClosableWindow {
     @FXML
     private VBox statusMetrics;
 
-    private final MetricsCalculator metricsCalculator;
-    private ReadOnlyAddressBook currentAddressBook;
+    private ObservableValue<MetricsCalculator.MetricsData> metrics;
 
     /**
      * Creates a new MetricsWindow.
@@ -32,8 +33,6 @@ public class MetricsWindow extends ClosableWindow {
      */
     public MetricsWindow(Stage root) {
         super(FXML, root);
-        this.metricsCalculator = new MetricsCalculator();
-        configureWindow();
     }
 
     /**
@@ -44,56 +43,20 @@ public class MetricsWindow extends ClosableWindow {
     }
 
     /**
-     * Configures the metrics window size and behavior.
+     * Binds the display to {@code metrics}, so that it is re-rendered whenever the metrics change.
+     *
+     * @param metrics The metrics to display, kept up to date by the model
      */
-    private void configureWindow() {
-        Stage stage = getRoot();
-
-        // Add event handlers to refresh data when window is restored or focused
-        stage.iconifiedProperty().addListener((observable, wasIconified, isIconified) -> {
-            if (!isIconified && currentAddressBook != null) {
-                // Window was restored from minimized state, refresh data
-                logger.fine("Metrics window restored from minimized state, refreshing data");
-                refreshMetrics();
-            }
-        });
-
-        stage.focusedProperty().addListener((observable, wasFocused, isFocused) -> {
-            if (isFocused && currentAddressBook != null) {
-                // Window gained focus, refresh data to ensure it's current
-                logger.fine("Metrics window gained focus, refreshing data");
-                refreshMetrics();
+    public void bind(ObservableValue<MetricsCalculator.MetricsData> metrics) {
+        requireNonNull(metrics);
+        this.metrics = metrics;
+        metrics.addListener((observable, oldMetrics, newMetrics) -> {
+            if (isShowing()) {
+                renderMetrics(statusMetrics, newMetrics);
             }
         });
     }
 
-    /**
-     * Sets the address book data for metrics calculation and updates the display.
-     *
-     * @param addressBook The address book containing company data
-     */
-    public void setData(ReadOnlyAddressBook addressBook) {
-        if (addressBook == null) {
-            logger.warning("Attempted to set null address book data for metrics");
-            return;
-        }
-
-        this.currentAddressBook = addressBook;
-        refreshMetrics();
-    }
-
-    /**
-     * Refreshes the metrics display with the current address book data.
-     */
-    private void refreshMetrics() {
-        if (currentAddressBook == null) {
-            return;
-        }
-
-        MetricsCalculator.MetricsData metricsData = metricsCalculator.calculateMetrics(currentAddressBook);
-        renderMetrics(statusMetrics, metricsData);
-    }
-
     /**
      * Renders the metrics data into the provided VBox container.
      * Clears existing content and populates with formatted metrics display.
@@ -165,6 +128,9 @@ public class MetricsWindow extends ClosableWindow {
      */
     public void show() {
         logger.fine("Showing metrics window.");
+        if (metrics != null) {
+            renderMetrics(statusMetrics, metrics.getValue());
+        }
         getRoot().show();
         getRoot().centerOnScreen();
     }
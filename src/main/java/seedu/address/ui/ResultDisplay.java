@@ -25,4 +25,15 @@ public class ResultDisplay extends UiPart<Region> {
         resultDisplay.setText(feedbackToUser);
     }
 
+    /**
+     * Adds {@code feedbackToUser} on a new line after the feedback already shown, rather than replacing it.
+     */
+    public void appendFeedbackToUser(String feedbackToUser) {
+        requireNonNull(feedbackToUser);
+        String shownFeedback = resultDisplay.getText();
+        resultDisplay.setText(shownFeedback == null || shownFeedback.isEmpty()
+                ? feedbackToUser
+                : shownFeedback + "\n" + feedbackToUser);
+    }
+
 }
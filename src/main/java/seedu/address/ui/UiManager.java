@@ -1,5 +1,6 @@
 package seedu.address.ui;
 
+import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.application.Platform;
@@ -24,12 +25,22 @@ public class UiManager implements Ui {
 
     private Logic logic;
     private MainWindow mainWindow;
+    private Optional<String> dataRecoveryMessage;
 
     /**
      * Creates a {@code UiManager} with the given {@code Logic}.
      */
     public UiManager(Logic logic) {
+        this(logic, Optional.empty());
+    }
+
+    /**
+     * Creates a {@code UiManager} with the given {@code Logic}, which warns the user with
+     * {@code dataRecoveryMessage}, if present, once the main window is shown.
+     */
+    public UiManager(Logic logic, Optional<String> dataRecoveryMessage) {
         this.logic = logic;
+        this.dataRecoveryMessage = dataRecoveryMessage;
     }
 
     @Override
@@ -43,6 +54,8 @@ public class UiManager implements Ui {
             mainWindow = new MainWindow(primaryStage, logic);
             mainWindow.show(); //This should be called before creating other UI parts
             mainWindow.fillInnerParts();
+            dataRecoveryMessage.ifPresent(message -> showAlertDialogAndWait(AlertType.WARNING,
+                    "Data recovered", "The data file could not be read", message));
 
         } catch (Throwable e) {
             logger.severe(StringUtil.getDetails(e));
@@ -12,7 +12,12 @@ public class ConfigTest {
     public void toStringMethod() {
         Config config = new Config();
         String expected = Config.class.getCanonicalName() + "{logLevel=" + config.getLogLevel()
-                + ", userPrefsFilePath=" + config.getUserPrefsFilePath() + "}";
+                + ", userPrefsFilePath=" + config.getUserPrefsFilePath()
+                + ", prettyPrintDataFile=" + config.isPrettyPrintDataFile()
+                + ", dataFileBackupCount=" + config.getDataFileBackupCount()
+                + ", journalDataFile=" + config.isJournalDataFile()
+                + ", cacheDataFile=" + config.isCacheDataFile()
+                + ", keepFilterOnChange=" + config.isKeepFilterOnChange() + "}";
         assertEquals(expected, config.toString());
     }
 
@@ -0,0 +1,113 @@
+package seedu.address.commons.core.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+public class IndexRangesTest {
+
+    private static List<Index> oneBased(int... oneBasedIndices) {
+        List<Index> indices = new ArrayList<>();
+        for (int oneBasedIndex : oneBasedIndices) {
+            indices.add(Index.fromOneBased(oneBasedIndex));
+        }
+        return indices;
+    }
+
+    @Test
+    public void constructor_invalidRanges_throwsException() {
+        assertThrows(IllegalArgumentException.class, () -> new IndexRanges(new int[] {0}, new int[0]));
+        assertThrows(IndexOutOfBoundsException.class, () -> new IndexRanges(new int[] {-1}, new int[] {2}));
+        assertThrows(IndexOutOfBoundsException.class, () -> new IndexRanges(new int[] {3}, new int[] {2}));
+        // overlapping
+        assertThrows(IllegalArgumentException.class, () -> new IndexRanges(new int[] {0, 2}, new int[] {2, 4}));
+        // not in ascending order
+        assertThrows(IllegalArgumentException.class, () -> new IndexRanges(new int[] {5, 0}, new int[] {6, 1}));
+    }
+
+    @Test
+    public void constructor_adjacentRanges_merged() {
+        IndexRanges indices = new IndexRanges(new int[] {0, 3, 7}, new int[] {2, 5, 7});
+        assertEquals(2, indices.getRangeCount());
+        assertEquals(oneBased(1, 2, 3, 4, 5, 6, 8), indices);
+    }
+
+    @Test
+    public void get() {
+        IndexRanges indices = new IndexRanges(new int[] {2, 10, 20}, new int[] {4, 10, 21});
+        assertEquals(6, indices.size());
+        assertEquals(Index.fromZeroBased(2), indices.get(0));
+        assertEquals(Index.fromZeroBased(4), indices.get(2));
+        assertEquals(Index.fromZeroBased(10), indices.get(3));
+        assertEquals(Index.fromZeroBased(20), indices.get(4));
+        assertEquals(Index.fromZeroBased(21), indices.get(5));
+        assertThrows(IndexOutOfBoundsException.class, () -> indices.get(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> indices.get(6));
+    }
+
+    @Test
+    public void iterator_matchesGet() {
+        IndexRanges indices = new IndexRanges(new int[] {0, 5, 9}, new int[] {2, 5, 11});
+        int position = 0;
+        for (Index index : indices) {
+            assertEquals(indices.get(position++), index);
+        }
+        assertEquals(indices.size(), position);
+    }
+
+    @Test
+    public void contains() {
+        IndexRanges indices = new IndexRanges(new int[] {2, 10}, new int[] {4, 12});
+        assertTrue(indices.contains(Index.fromZeroBased(2)));
+        assertTrue(indices.contains(Index.fromZeroBased(3)));
+        assertTrue(indices.contains(Index.fromZeroBased(12)));
+        assertFalse(indices.contains(Index.fromZeroBased(0)));
+        assertFalse(indices.contains(Index.fromZeroBased(5)));
+        assertFalse(indices.contains(Index.fromZeroBased(13)));
+        assertFalse(indices.contains(null));
+    }
+
+    @Test
+    public void ceiling() {
+        IndexRanges indices = new IndexRanges(new int[] {2, 10}, new int[] {4, 12});
+        assertEquals(Optional.of(Index.fromZeroBased(2)), indices.ceiling(Index.fromZeroBased(0)));
+        assertEquals(Optional.of(Index.fromZeroBased(3)), indices.ceiling(Index.fromZeroBased(3)));
+        assertEquals(Optional.of(Index.fromZeroBased(4)), indices.ceiling(Index.fromZeroBased(4)));
+        assertEquals(Optional.of(Index.fromZeroBased(10)), indices.ceiling(Index.fromZeroBased(5)));
+        assertEquals(Optional.of(Index.fromZeroBased(12)), indices.ceiling(Index.fromZeroBased(12)));
+        assertEquals(Optional.empty(), indices.ceiling(Index.fromZeroBased(13)));
+    }
+
+    @Test
+    public void copyOf_unorderedIndicesWithDuplicates_distinctInAscendingOrder() {
+        IndexRanges indices = IndexRanges.copyOf(oneBased(5, 1, 2, 5, 3, 9));
+        assertEquals(oneBased(1, 2, 3, 5, 9), indices);
+        assertEquals(3, indices.getRangeCount());
+        assertTrue(IndexRanges.copyOf(List.of()).isEmpty());
+    }
+
+    @Test
+    public void copyOf_indexRanges_returnsSameInstance() {
+        IndexRanges indices = new IndexRanges(new int[] {0}, new int[] {2});
+        assertSame(indices, IndexRanges.copyOf(indices));
+    }
+
+    @Test
+    public void equals() {
+        IndexRanges indices = new IndexRanges(new int[] {0, 4}, new int[] {1, 4});
+
+        // same indices in a list -> returns true
+        assertEquals(oneBased(1, 2, 5), indices);
+
+        // different indices -> returns false
+        assertFalse(indices.equals(oneBased(1, 2, 4)));
+    }
+}
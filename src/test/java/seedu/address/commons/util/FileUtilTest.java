@@ -1,13 +1,26 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +33,82 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeAtomically_newFile_createdWithParentDirectories() throws Exception {
+        Path file = testFolder.resolve("parent").resolve("file.txt");
+        FileUtil.writeAtomically(file, out -> out.write(new byte[] {'a', 'b'}));
+        assertEquals("ab", FileUtil.readFromFile(file));
+    }
+
+    @Test
+    public void writeAtomically_failedWrite_previousContentKept() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.writeToFile(file, "previous");
+
+        assertThrows(IOException.class, () -> FileUtil.writeAtomically(file, out -> {
+            out.write('x');
+            throw new IOException("disk full");
+        }));
+        assertEquals("previous", FileUtil.readFromFile(file));
+
+        // the temporary file is cleaned up
+        try (Stream<Path> files = Files.list(testFolder)) {
+            assertEquals(1, files.count());
+        }
+    }
+
+    @Test
+    public void openForReading_smallFile_contentRead() throws Exception {
+        Path file = testFolder.resolve("small.txt");
+        byte[] content = "small content".getBytes("UTF-8");
+        Files.write(file, content);
+        assertArrayEquals(content, readAll(file));
+    }
+
+    @Test
+    public void openForReading_largeFile_contentRead() throws Exception {
+        Path file = testFolder.resolve("large.txt");
+        byte[] content = new byte[(int) FileUtil.MAPPING_THRESHOLD + 3];
+        for (int i = 0; i < content.length; i++) {
+            content[i] = (byte) i;
+        }
+        Files.write(file, content);
+        assertArrayEquals(content, readAll(file));
+    }
+
+    @Test
+    public void openForReading_streamClosed_fileCanBeReplacedAndTruncated() throws Exception {
+        Path file = testFolder.resolve("replaced.txt");
+        Files.write(file, new byte[(int) FileUtil.MAPPING_THRESHOLD + 3]);
+        readAll(file);
+
+        FileUtil.writeToFile(file, "replaced content");
+        assertEquals("replaced content", FileUtil.readFromFile(file));
+        FileUtil.truncateFile(file, 8);
+        assertEquals("replaced", FileUtil.readFromFile(file));
+    }
+
+    @Test
+    public void openForReading_largeFileStreamClosed_readThrowsIoException() throws Exception {
+        Path file = testFolder.resolve("closed.txt");
+        Files.write(file, new byte[(int) FileUtil.MAPPING_THRESHOLD + 3]);
+        InputStream in = FileUtil.openForReading(file);
+        in.close();
+        assertThrows(IOException.class, () -> in.read());
+    }
+
+    private static byte[] readAll(Path file) throws IOException {
+        ByteArrayOutputStream content = new ByteArrayOutputStream();
+        try (InputStream in = FileUtil.openForReading(file)) {
+            // mixes single byte and bulk reads
+            content.write(in.read());
+            byte[] buffer = new byte[4096];
+            int length;
+            while ((length = in.read(buffer, 0, buffer.length)) != -1) {
+                content.write(buffer, 0, length);
+            }
+        }
+        return content.toByteArray();
+    }
+
 }
@@ -0,0 +1,96 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class SubstringMatcherTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new SubstringMatcher(null));
+    }
+
+    @Test
+    public void matches_noKeywords_returnsFalse() {
+        assertFalse(new SubstringMatcher(Collections.emptyList()).matches("anything"));
+    }
+
+    @Test
+    public void matches_emptyKeyword_returnsTrue() {
+        assertTrue(new SubstringMatcher(Arrays.asList("", "x")).matches(""));
+        assertTrue(new SubstringMatcher(Arrays.asList("a", "b", "c", "d", "")).matches("z"));
+    }
+
+    @Test
+    public void matches_fewKeywords_ignoresCaseOfKeywords() {
+        SubstringMatcher matcher = new SubstringMatcher(Arrays.asList("ALP", "Corp"));
+        assertTrue(matcher.matches("alpha industries"));
+        assertTrue(matcher.matches("beta corporation"));
+        assertFalse(matcher.matches("delta"));
+    }
+
+    @Test
+    public void matches_mixedCaseText_ignoresCaseOfText() {
+        SubstringMatcher fewKeywordsMatcher = new SubstringMatcher(Arrays.asList("alp", "corp"));
+        assertTrue(fewKeywordsMatcher.matches("ALPHA Industries"));
+        assertTrue(fewKeywordsMatcher.matches(new StringBuilder("Beta CoRPoration")));
+        assertFalse(fewKeywordsMatcher.matches("DELTA"));
+
+        SubstringMatcher manyKeywordsMatcher = new SubstringMatcher(Arrays.asList("he", "she", "his", "hers"));
+        assertTrue(manyKeywordsMatcher.matches("USHE"));
+        assertTrue(manyKeywordsMatcher.matches(new StringBuilder("aHiShErS")));
+        assertFalse(manyKeywordsMatcher.matches("HI SH"));
+    }
+
+    @Test
+    public void matches_manyKeywords_findsKeywordsThatOverlap() {
+        // "she" only matches through the suffix of "ushe", and "he" is a suffix of "she"
+        SubstringMatcher matcher = new SubstringMatcher(Arrays.asList("HE", "she", "his", "hers", "xyz"));
+        assertTrue(matcher.matches("ushe"));
+        assertTrue(matcher.matches("ahishers"));
+        assertTrue(matcher.matches("shx his"));
+        assertFalse(matcher.matches("hi sh xy"));
+        assertFalse(matcher.matches(""));
+    }
+
+    @Test
+    public void matches_manyRandomKeywords_sameAsSearchingForEachKeyword() {
+        Random random = new Random(42);
+        for (int round = 0; round < 200; round++) {
+            List<String> keywords = new ArrayList<>();
+            int keywordCount = SubstringMatcher.AUTOMATON_THRESHOLD + random.nextInt(8);
+            for (int i = 0; i < keywordCount; i++) {
+                keywords.add(randomText(random, 1 + random.nextInt(4)));
+            }
+            SubstringMatcher matcher = new SubstringMatcher(keywords);
+
+            for (int i = 0; i < 20; i++) {
+                String text = randomText(random, random.nextInt(12));
+                boolean expected = keywords.stream().anyMatch(text::contains);
+                assertEquals(expected, matcher.matches(text), keywords + " in " + text);
+            }
+        }
+    }
+
+    /**
+     * Returns lower-case text of {@code length} over a small alphabet, so that keywords often overlap.
+     */
+    private static String randomText(Random random, int length) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            text.append((char) ('a' + random.nextInt(4)));
+        }
+        return text.toString();
+    }
+
+}
@@ -11,15 +11,19 @@ import static seedu.address.testutil.TypicalCompanies.ALPHA;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.beans.property.ReadOnlyObjectProperty;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.AddressBook;
+import seedu.address.model.MetricsCalculator;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
@@ -386,11 +390,31 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void deleteCompanies(Collection<Company> targets) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setCompany(Company target, Company editedCompany) {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void setCompanies(Map<Company, Company> replacements) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ReadOnlyObjectProperty<MetricsCalculator.MetricsData> getMetrics() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void updateFilteredCompanyListAfterChange() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Company> getFilteredCompanyList() {
             throw new AssertionError("This method should not be called.");
@@ -20,6 +20,7 @@ import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.Messages;
+import seedu.address.logic.parser.DeleteCommandParser;
 import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
@@ -95,6 +96,14 @@ public class DeleteCommandTest {
         assertCommandFailure(deleteCommand, model, Messages.MESSAGE_INVALID_COMPANY_DISPLAYED_INDEX);
     }
 
+    /** Tests that a huge parsed range over a small list is rejected without expanding the range. */
+    @Test
+    public void execute_parsedHugeRangeUnfilteredList_throwsCommandException() throws Exception {
+        DeleteCommand deleteCommand = new DeleteCommandParser().parse("1-" + Integer.MAX_VALUE);
+
+        assertCommandFailure(deleteCommand, model, Messages.MESSAGE_INVALID_COMPANY_DISPLAYED_INDEX);
+    }
+
     /** Tests that a valid index in a filtered list deletes the correct company and clears the filtered view. */
     @Test
     public void execute_validIndexFilteredList_success() {
@@ -22,11 +22,14 @@ import static seedu.address.testutil.TypicalIndexes.INDEX_THIRD_COMPANY;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.commands.EditCommand.EditCompanyDescriptor;
+import seedu.address.logic.parser.EditCommandParser;
 import seedu.address.logic.parser.IndexParser;
 import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
@@ -34,6 +37,7 @@ import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.company.Company;
 import seedu.address.testutil.CompanyBuilder;
+import seedu.address.testutil.CountingCompany;
 import seedu.address.testutil.EditCompanyDescriptorBuilder;
 
 /**
@@ -276,6 +280,16 @@ public class EditCommandTest {
         assertCommandFailure(editCommand, model, expectedMessage);
     }
 
+    @Test
+    public void execute_parsedHugeRangeSmallList_failure() throws Exception {
+        // the range is kept as a range, so it is rejected without creating an index for every number in it
+        EditCommand editCommand = new EditCommandParser().parse(" 1-" + Integer.MAX_VALUE + " t/applied");
+
+        String expectedMessage = String.format(IndexParser.MESSAGE_INDEX_OUT_OF_RANGE,
+                model.getFilteredCompanyList().size() + 1, model.getFilteredCompanyList().size());
+        assertCommandFailure(editCommand, model, expectedMessage);
+    }
+
     @Test
     public void execute_batchEditFilteredList_success() {
         showCompanyAtIndex(model, INDEX_FIRST_COMPANY);
@@ -412,6 +426,38 @@ public class EditCommandTest {
         assertCommandSuccess(editCommand, model, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_batchEditManyCompanies_onlyEditedCompaniesReplaced() throws Exception {
+        // the time this takes is measured by EditCommandBenchmark
+        AtomicInteger comparisonCount = new AtomicInteger();
+        AddressBook addressBook = new AddressBook();
+        addressBook.setCompanies(CountingCompany.createCompanies(1000, comparisonCount));
+        Model largeModel = new ModelManager(addressBook, new UserPrefs());
+        int[] changeCount = {0};
+        int[] replacedCount = {0};
+        largeModel.getAddressBook().getCompanyList().addListener((ListChangeListener<Company>) change -> {
+            changeCount[0]++;
+            while (change.next()) {
+                replacedCount[0] += change.getRemovedSize();
+                assertTrue(change.wasReplaced());
+                assertEquals(change.getRemovedSize(), change.getAddedSize());
+            }
+        });
+        EditCompanyDescriptor descriptor = new EditCompanyDescriptorBuilder().withTags(VALID_TAG_GOOD_PAY).build();
+        EditCommand editCommand = new EditCommand(IndexParser.parseIndices("1-10,500-509"), descriptor);
+        comparisonCount.set(0);
+
+        editCommand.execute(largeModel);
+
+        // the edited companies are located and replaced without scanning or replacing the whole list
+        assertTrue(comparisonCount.get() <= 4 * 20);
+        assertEquals(1, changeCount[0]);
+        assertEquals(20, replacedCount[0]);
+        assertEquals(1000, largeModel.getFilteredCompanyList().size());
+        assertEquals(20, largeModel.getFilteredCompanyList().stream()
+                .filter(company -> company.getTags().equals(descriptor.getTags().get())).count());
+    }
+
     @Test
     public void execute_batchEditWithNameField_failure() {
         // Batch edit should not allow name field to be edited
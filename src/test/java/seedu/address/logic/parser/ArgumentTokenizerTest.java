@@ -5,6 +5,9 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 public class ArgumentTokenizerTest {
@@ -179,4 +182,44 @@ public class ArgumentTokenizerTest {
         assertPreamblePresent(argMultimap, "SomePreambleString");
         assertArgumentPresent(argMultimap, pSlash, "adsf \\ asdf");
     }
+
+    @Test
+    public void tokenize_escapedPrefixesAmongOtherBackslashes_onlyPrefixesUnescaped() {
+        String argsString = "pre \\\\x/ p/ \\a/\\b\\ \\_/\\";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, pSlash);
+        assertPreamblePresent(argMultimap, "pre \\x/");
+        assertArgumentPresent(argMultimap, pSlash, "a/\\b\\ _/\\");
+    }
+
+    @Test
+    public void tokenize_prefixesAtSamePosition_longestPrefixTaken() {
+        Prefix pSlashSlash = new Prefix("p//");
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize("pre p//one p/two", pSlash, pSlashSlash);
+        assertArgumentPresent(argMultimap, pSlashSlash, "one");
+        assertArgumentPresent(argMultimap, pSlash, "two");
+    }
+
+    @Test
+    public void tokenize_longCommandWithManyTags_allValuesInOrder() {
+        // the time this takes is measured by ArgumentTokenizerBenchmark
+        int tagCount = 1_000;
+        StringBuilder argsString = new StringBuilder(" 1 n/Some Company p/91234567 e/hr@company.com a/1 Road");
+        List<String> expectedTags = new ArrayList<>();
+        List<String> expectedRemarks = new ArrayList<>();
+        for (int i = 0; i < tagCount; i++) {
+            argsString.append(" t/tag-").append(i).append(" r/remark \\t/ ").append(i);
+            expectedTags.add("tag-" + i);
+            expectedRemarks.add("remark t/ " + i);
+        }
+        Prefix[] prefixes = {new Prefix("n/"), new Prefix("p/"), new Prefix("e/"), new Prefix("a/"),
+            new Prefix("t/"), new Prefix("r/"), new Prefix("s/")};
+
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString.toString(), prefixes);
+
+        assertPreamblePresent(argMultimap, "1");
+        assertArgumentPresent(argMultimap, prefixes[3], "1 Road");
+        assertEquals(expectedTags, argMultimap.getAllValues(prefixes[4]));
+        assertEquals(expectedRemarks, argMultimap.getAllValues(prefixes[5]));
+        assertArgumentAbsent(argMultimap, prefixes[6]);
+    }
 }
@@ -1,11 +1,9 @@
 package seedu.address.logic.parser;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
-import static seedu.address.logic.parser.IndexParser.MAX_RANGE_SIZE;
 import static seedu.address.logic.parser.IndexParser.MESSAGE_DUPLICATE_INDICES;
 import static seedu.address.logic.parser.IndexParser.MESSAGE_INVALID_INDICES;
 import static seedu.address.logic.parser.IndexParser.MESSAGE_INVALID_RANGE_ORDER;
-import static seedu.address.logic.parser.IndexParser.MESSAGE_RANGE_TOO_LARGE;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.util.List;
@@ -13,6 +11,7 @@ import java.util.List;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexRanges;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.logic.parser.exceptions.ParseIndicesException;
 
@@ -118,9 +117,10 @@ public class IndexParserTest {
 
     @Test
     public void parseIndices_rangeOverlaps_throwsParseIndicesException() {
-        assertDuplicateThrows("1-3,2-4", "2, 3");
-        assertDuplicateThrows("1-3,1-3", "1, 2, 3");
-        assertDuplicateThrows("1-5,2-4", "2, 3, 4");
+        assertDuplicateThrows("1-3,2-4", "2-3");
+        assertDuplicateThrows("1-3,1-3", "1-3");
+        assertDuplicateThrows("1-5,2-4", "2-4");
+        assertDuplicateThrows("1-5,2-4,3", "2-4, 3");
     }
 
     @Test
@@ -253,102 +253,66 @@ public class IndexParserTest {
     }
 
     // ================================================================
-    // MAX_RANGE_SIZE VALIDATION TESTS
+    // LARGE RANGE TESTS
     // ================================================================
 
     @Test
-    public void parseIndices_rangeExactlyAtMaxSize_success() throws Exception {
-        // Range of exactly MAX_RANGE_SIZE should be accepted (1-10000)
-        List<Index> indices = IndexParser.parseIndices("1-" + MAX_RANGE_SIZE);
-        assertEquals(MAX_RANGE_SIZE, indices.size());
+    public void parseIndices_veryLargeRange_success() throws Exception {
+        List<Index> indices = IndexParser.parseIndices("1-1000000");
+        assertEquals(1000000, indices.size());
         assertEquals(Index.fromOneBased(1), indices.get(0));
-        assertEquals(Index.fromOneBased(MAX_RANGE_SIZE), indices.get(MAX_RANGE_SIZE - 1));
+        assertEquals(Index.fromOneBased(500000), indices.get(499999));
+        assertEquals(Index.fromOneBased(1000000), indices.get(999999));
     }
 
     @Test
-    public void parseIndices_rangeExceedsMaxSizeByOne_throwsParseIndicesException() {
-        // Range of MAX_RANGE_SIZE + 1 should be rejected (1-10001)
-        int endIndex = MAX_RANGE_SIZE + 1;
-        assertThrows(ParseIndicesException.class,
-                String.format(MESSAGE_RANGE_TOO_LARGE, 1, endIndex, endIndex, MAX_RANGE_SIZE), () ->
-                        IndexParser.parseIndices("1-" + endIndex));
+    public void parseIndices_largestPossibleRange_keptAsRange() throws Exception {
+        List<Index> indices = IndexParser.parseIndices("1-" + Integer.MAX_VALUE);
+        assertEquals(Integer.MAX_VALUE, indices.size());
+        assertEquals(Index.fromOneBased(Integer.MAX_VALUE), indices.get(Integer.MAX_VALUE - 1));
+        assertEquals(1, ((IndexRanges) indices).getRangeCount());
     }
 
     @Test
-    public void parseIndices_veryLargeRange_throwsParseIndicesException() {
-        // Very large range like 1-1000000 should be rejected
-        assertThrows(ParseIndicesException.class,
-                String.format(MESSAGE_RANGE_TOO_LARGE, 1, 1000000, 1000000, MAX_RANGE_SIZE), () ->
-                        IndexParser.parseIndices("1-1000000"));
-    }
-
-    @Test
-    public void parseIndices_largeRangeNotStartingAtOne_throwsParseIndicesException() {
-        // Large range not starting at 1 (e.g., 100-20100) should be rejected
-        int start = 100;
-        int end = start + MAX_RANGE_SIZE; // size = 10001
-        long size = (long) end - start + 1;
-        assertThrows(ParseIndicesException.class,
-                String.format(MESSAGE_RANGE_TOO_LARGE, start, end, size, MAX_RANGE_SIZE), () ->
-                        IndexParser.parseIndices(start + "-" + end));
-    }
-
-    @Test
-    public void parseIndices_multipleSmallRangesWithinLimit_success() throws Exception {
-        // Multiple small ranges that total more than MAX_RANGE_SIZE should be accepted
-        // Each individual range is small (1-100, 200-300, 400-500)
-        List<Index> indices = IndexParser.parseIndices("1-100,200-300,400-500");
-        assertEquals(302, indices.size()); // 100 + 101 + 101 = 302
+    public void parseIndices_adjacentRanges_merged() throws Exception {
+        List<Index> indices = IndexParser.parseIndices("4-6,1-3,7,9");
+        assertEquals(8, indices.size());
+        assertEquals(Index.fromOneBased(1), indices.get(0));
+        assertEquals(Index.fromOneBased(9), indices.get(7));
+        assertEquals(2, ((IndexRanges) indices).getRangeCount());
     }
 
     @Test
-    public void parseIndices_mixedWithOneLargeRange_throwsParseIndicesException() {
-        // Mixed input where one range exceeds MAX_RANGE_SIZE
-        assertThrows(ParseIndicesException.class,
-                String.format(MESSAGE_RANGE_TOO_LARGE, 1, 20000, 20000, MAX_RANGE_SIZE), () ->
-                        IndexParser.parseIndices("1,2,3,1-20000"));
+    public void parseIndices_unorderedIndices_returnedInAscendingOrder() throws Exception {
+        assertEquals(List.of(Index.fromOneBased(1), Index.fromOneBased(2), Index.fromOneBased(5)),
+                IndexParser.parseIndices("5,2,1"));
     }
 
     @Test
-    public void parseIndices_rangeWithLargeNumbers_throwsParseIndicesException() {
-        // Range with large numbers that exceeds MAX_RANGE_SIZE (1000000-1020000)
-        int start = 1000000;
-        int end = start + MAX_RANGE_SIZE; // size = 10001
-        long size = (long) end - start + 1;
-        assertThrows(ParseIndicesException.class,
-                String.format(MESSAGE_RANGE_TOO_LARGE, start, end, size, MAX_RANGE_SIZE), () ->
-                        IndexParser.parseIndices(start + "-" + end));
+    public void parseIndices_multipleLargeRanges_success() throws Exception {
+        List<Index> indices = IndexParser.parseIndices("1-100,200-300,400-500,1000-200000");
+        assertEquals(302 + 199001, indices.size());
     }
 
     @Test
-    public void parseIndices_edgeCaseRangeSizeCalculation_throwsParseIndicesException() {
-        // Test edge case where range size calculation is critical (5-10005)
-        // Size = 10005 - 5 + 1 = 10001 (exceeds MAX_RANGE_SIZE)
-        assertThrows(ParseIndicesException.class,
-                String.format(MESSAGE_RANGE_TOO_LARGE, 5, 10005, 10001, MAX_RANGE_SIZE), () ->
-                        IndexParser.parseIndices("5-10005"));
+    public void parseIndices_singlesOverlappingLargeRange_throwsParseIndicesException() {
+        assertDuplicateThrows("1,2,3,1-20000", "1, 2, 3");
     }
 
     @Test
-    public void parseIndices_rangeExactlyMaxSizeNotStartingAtOne_success() throws Exception {
-        // Range of exactly MAX_RANGE_SIZE not starting at 1 (e.g., 100-10099) should succeed
-        int start = 100;
-        int end = start + MAX_RANGE_SIZE - 1; // size = 10000
-        List<Index> indices = IndexParser.parseIndices(start + "-" + end);
-        assertEquals(MAX_RANGE_SIZE, indices.size());
-        assertEquals(Index.fromOneBased(start), indices.get(0));
-        assertEquals(Index.fromOneBased(end), indices.get(MAX_RANGE_SIZE - 1));
+    public void parseIndices_largeOverlappingRanges_throwsParseIndicesException() {
+        assertDuplicateThrows("1-200000,100000-300000", "100000-200000");
     }
 
     @Test
-    public void parseIndices_extremelyLargeRangeWithIntegerMaxValue_throwsParseIndicesException() {
+    public void parseIndices_extremelyLargeRangeWithIntegerMaxValue_success() throws Exception {
         // Test with very large numbers close to Integer.MAX_VALUE
         int start = Integer.MAX_VALUE - 20000;
         int end = Integer.MAX_VALUE - 1;
-        long size = (long) end - start + 1; // Should be 20000
-        assertThrows(ParseIndicesException.class,
-                String.format(MESSAGE_RANGE_TOO_LARGE, start, end, size, MAX_RANGE_SIZE), () ->
-                        IndexParser.parseIndices(start + "-" + end));
+        List<Index> indices = IndexParser.parseIndices(start + "-" + end);
+        assertEquals(20000, indices.size());
+        assertEquals(Index.fromOneBased(start), indices.get(0));
+        assertEquals(Index.fromOneBased(end), indices.get(19999));
     }
 }
 
@@ -2,6 +2,7 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOEING;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_GOOD_PAY;
@@ -19,6 +20,7 @@ import org.junit.jupiter.api.Test;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.company.Company;
+import seedu.address.model.company.UniqueCompanyList;
 import seedu.address.model.company.exceptions.DuplicateCompanyException;
 import seedu.address.testutil.CompanyBuilder;
 
@@ -78,6 +80,27 @@ public class AddressBookTest {
         assertTrue(addressBook.hasCompany(editedAlice));
     }
 
+    @Test
+    public void getVersion_afterModification_increases() {
+        long initialVersion = addressBook.getVersion();
+        addressBook.addCompany(ALPHA);
+        long versionAfterAdd = addressBook.getVersion();
+        assertTrue(versionAfterAdd > initialVersion);
+
+        addressBook.removeCompany(ALPHA);
+        assertTrue(addressBook.getVersion() > versionAfterAdd);
+    }
+
+    @Test
+    public void getVersion_copyOfAddressBook_keepsVersion() {
+        AddressBook original = getTypicalAddressBook();
+        AddressBook copy = new AddressBook(original);
+        assertEquals(original.getVersion(), copy.getVersion());
+
+        copy.removeCompany(ALPHA);
+        assertNotEquals(original.getVersion(), copy.getVersion());
+    }
+
     @Test
     public void getCompanyList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getCompanyList().remove(0));
@@ -103,6 +126,11 @@ public class AddressBookTest {
         public ObservableList<Company> getCompanyList() {
             return companies;
         }
+
+        @Override
+        public long getVersion() {
+            return UniqueCompanyList.newVersion();
+        }
     }
 
 }
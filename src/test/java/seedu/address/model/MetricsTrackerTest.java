@@ -0,0 +1,139 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalCompanies.getTypicalAddressBook;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.MetricsCalculator.MetricsData;
+import seedu.address.model.company.Company;
+import seedu.address.model.company.Status;
+import seedu.address.testutil.CompanyBuilder;
+
+public class MetricsTrackerTest {
+
+    private final AddressBook addressBook = new AddressBook();
+
+    /**
+     * Adds a company with each of {@code statuses} to the address book.
+     */
+    private void addCompanies(String... statuses) {
+        for (int i = 0; i < statuses.length; i++) {
+            addressBook.addCompany(new CompanyBuilder().withName("Company" + i).withStatus(statuses[i]).build());
+        }
+    }
+
+    private MetricsData trackMetrics() {
+        return new MetricsTracker(addressBook.getCompanyList()).metricsProperty().get();
+    }
+
+    /**
+     * Asserts that {@code actual} holds the metrics of the companies in {@code addressBook}.
+     */
+    private void assertMetricsOf(AddressBook addressBook, MetricsData actual) {
+        Map<String, Long> expectedStatusCounts = addressBook.getCompanyList().stream()
+                .collect(Collectors.groupingBy(company -> company.getStatus().toUserInputString().toUpperCase(),
+                        Collectors.counting()));
+        assertEquals(addressBook.getCompanyList().size(), actual.getTotalCompanies());
+        assertEquals(expectedStatusCounts, actual.getStatusCounts());
+        assertEquals(MetricsCalculator.DEFAULT_STATUS_ORDER, actual.getStatusOrder());
+    }
+
+    /**
+     * Asserts that {@code result} has each of {@code expectedCounts}, and the percentages of all companies they
+     * make up.
+     */
+    private void assertStatusCounts(MetricsData result, Map<String, Long> expectedCounts) {
+        for (Map.Entry<String, Long> entry : expectedCounts.entrySet()) {
+            assertEquals(entry.getValue(), result.getStatusCount(entry.getKey()),
+                "Status " + entry.getKey() + " should have " + entry.getValue() + " companies");
+            assertEquals(entry.getValue() * 100.0 / result.getTotalCompanies(),
+                    result.getStatusPercentage(entry.getKey()), 0.01);
+        }
+    }
+
+    @Test
+    public void constructor_emptyList_emptyMetrics() {
+        MetricsData result = trackMetrics();
+        assertEquals(0, result.getTotalCompanies());
+        assertFalse(result.hasData());
+        assertTrue(result.getStatusCounts().isEmpty());
+        assertEquals(0.0, result.getStatusPercentage("TO-APPLY"));
+    }
+
+    @Test
+    public void constructor_singleCompany_correctMetrics() {
+        addCompanies("applied");
+
+        MetricsData result = trackMetrics();
+        assertEquals(1, result.getTotalCompanies());
+        assertTrue(result.hasData());
+        assertStatusCounts(result, Map.of("APPLIED", 1L, "TO-APPLY", 0L));
+    }
+
+    @Test
+    public void constructor_multipleCompaniesVariousStatuses_correctCounts() {
+        addCompanies("applied", "applied", "to-apply", "offered", "rejected", "rejected");
+
+        MetricsData result = trackMetrics();
+        assertEquals(6, result.getTotalCompanies());
+        assertStatusCounts(result, Map.of(
+            "APPLIED", 2L,
+            "TO-APPLY", 1L,
+            "OFFERED", 1L,
+            "REJECTED", 2L,
+            "OA", 0L
+        ));
+    }
+
+    @Test
+    public void constructor_allStatusTypes_oneCompanyEach() {
+        addCompanies(Arrays.stream(Status.Stage.values())
+                .map(Status::toUserInputString)
+                .toArray(String[]::new));
+
+        Map<String, Long> expectedCounts = new HashMap<>();
+        for (String status : MetricsCalculator.DEFAULT_STATUS_ORDER) {
+            expectedCounts.put(status, 1L);
+        }
+        MetricsData result = trackMetrics();
+        assertEquals(Status.Stage.values().length, result.getTotalCompanies());
+        assertStatusCounts(result, expectedCounts);
+    }
+
+    @Test
+    public void constructor_existingCompanies_metricsOfCompanies() {
+        AddressBook typicalAddressBook = getTypicalAddressBook();
+        MetricsTracker tracker = new MetricsTracker(typicalAddressBook.getCompanyList());
+        assertMetricsOf(typicalAddressBook, tracker.metricsProperty().get());
+    }
+
+    @Test
+    public void metricsProperty_companiesChanged_metricsUpdated() {
+        AddressBook addressBook = getTypicalAddressBook();
+        MetricsTracker tracker = new MetricsTracker(addressBook.getCompanyList());
+
+        Company accepted = new CompanyBuilder().withName("Accepted Co").withStatus("accepted").build();
+        addressBook.addCompany(accepted);
+        assertMetricsOf(addressBook, tracker.metricsProperty().get());
+
+        Company rejected = new CompanyBuilder(accepted).withStatus("rejected").build();
+        addressBook.setCompany(accepted, rejected);
+        assertMetricsOf(addressBook, tracker.metricsProperty().get());
+
+        addressBook.removeCompany(rejected);
+        assertMetricsOf(addressBook, tracker.metricsProperty().get());
+
+        addressBook.resetData(new AddressBook());
+        assertMetricsOf(addressBook, tracker.metricsProperty().get());
+        assertFalse(tracker.metricsProperty().get().hasData());
+    }
+
+}
@@ -11,12 +11,19 @@ import static seedu.address.testutil.TypicalCompanies.BETA;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.company.Company;
+import seedu.address.model.company.IndexedPredicate;
 import seedu.address.model.company.NameContainsKeywordsPredicate;
+import seedu.address.model.company.UniqueCompanyList;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.CompanyBuilder;
 
 public class ModelManagerTest {
 
@@ -88,11 +95,79 @@ public class ModelManagerTest {
         assertTrue(modelManager.hasCompany(ALPHA));
     }
 
+    @Test
+    public void deleteCompanies_companiesInAddressBook_deletesCompanies() {
+        modelManager = new ModelManager(new AddressBookBuilder().withCompany(ALPHA).withCompany(BETA).build(),
+                new UserPrefs());
+        modelManager.deleteCompanies(Arrays.asList(ALPHA, BETA));
+        assertFalse(modelManager.hasCompany(ALPHA));
+        assertFalse(modelManager.hasCompany(BETA));
+        assertTrue(modelManager.getFilteredCompanyList().isEmpty());
+    }
+
     @Test
     public void getFilteredCompanyList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredCompanyList().remove(0));
     }
 
+    @Test
+    public void updateFilteredCompanyList_indexedPredicateThenEdit_editedCompanyTested() {
+        modelManager = new ModelManager(new AddressBookBuilder().withCompany(ALPHA).withCompany(BETA).build(),
+                new UserPrefs());
+        modelManager.updateFilteredCompanyList(new NameContainsKeywordsPredicate(Arrays.asList("industries")));
+        assertEquals(Collections.singletonList(ALPHA), modelManager.getFilteredCompanyList());
+
+        // an edited company was not among the candidates, but must still be shown if it matches
+        Company editedBeta = new CompanyBuilder(BETA).withName("Beta Industries").build();
+        modelManager.setCompany(BETA, editedBeta);
+        assertEquals(Arrays.asList(ALPHA, editedBeta), modelManager.getFilteredCompanyList());
+    }
+
+    @Test
+    public void updateFilteredCompanyList_sameIndexedPredicateAgain_companiesNotTestedAgain() {
+        modelManager = new ModelManager(new AddressBookBuilder().withCompany(ALPHA).withCompany(BETA).build(),
+                new UserPrefs());
+        CountingPredicate predicate = new CountingPredicate("beta");
+        modelManager.updateFilteredCompanyList(predicate);
+        int testCount = predicate.testCount;
+
+        modelManager.updateFilteredCompanyList(PREDICATE_SHOW_ALL_COMPANIES);
+        modelManager.updateFilteredCompanyList(predicate);
+        assertEquals(testCount, predicate.testCount);
+        assertEquals(Collections.singletonList(BETA), modelManager.getFilteredCompanyList());
+
+        // once the data changes, the cached matches are stale
+        modelManager.deleteCompany(BETA);
+        modelManager.updateFilteredCompanyList(PREDICATE_SHOW_ALL_COMPANIES);
+        modelManager.updateFilteredCompanyList(predicate);
+        assertTrue(predicate.testCount > testCount);
+        assertEquals(Collections.emptyList(), modelManager.getFilteredCompanyList());
+    }
+
+    @Test
+    public void updateFilteredCompanyListAfterChange_filterKept_changedCompaniesFiltered() {
+        modelManager = new ModelManager(new AddressBookBuilder().withCompany(ALPHA).withCompany(BETA).build(),
+                new UserPrefs(), true);
+        modelManager.updateFilteredCompanyList(new NameContainsKeywordsPredicate(Arrays.asList("beta")));
+
+        Company betaTwo = new CompanyBuilder().withName("Beta Two").build();
+        modelManager.addCompany(betaTwo);
+        modelManager.addCompany(new CompanyBuilder().withName("Gamma").build());
+        Company editedAlpha = new CompanyBuilder(ALPHA).withName("Alpha Beta").build();
+        modelManager.setCompany(ALPHA, editedAlpha);
+        modelManager.updateFilteredCompanyListAfterChange();
+        assertEquals(Arrays.asList(editedAlpha, BETA, betaTwo), modelManager.getFilteredCompanyList());
+    }
+
+    @Test
+    public void updateFilteredCompanyListAfterChange_filterNotKept_showsAllCompanies() {
+        modelManager = new ModelManager(new AddressBookBuilder().withCompany(ALPHA).withCompany(BETA).build(),
+                new UserPrefs());
+        modelManager.updateFilteredCompanyList(new CountingPredicate("beta"));
+        modelManager.updateFilteredCompanyListAfterChange();
+        assertEquals(Arrays.asList(ALPHA, BETA), modelManager.getFilteredCompanyList());
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withCompany(ALPHA).withCompany(BETA).build();
@@ -129,4 +204,27 @@ public class ModelManagerTest {
         differentUserPrefs.setAddressBookFilePath(Paths.get("differentFilePath"));
         assertFalse(modelManager.equals(new ModelManager(addressBook, differentUserPrefs)));
     }
+
+    /**
+     * An {@code IndexedPredicate} that cannot narrow down companies, and counts the companies it tests.
+     */
+    private static class CountingPredicate implements IndexedPredicate {
+        private final String keyword;
+        private int testCount = 0;
+
+        CountingPredicate(String keyword) {
+            this.keyword = keyword;
+        }
+
+        @Override
+        public boolean test(Company company) {
+            testCount++;
+            return company.getName().getLowerCaseName().contains(keyword);
+        }
+
+        @Override
+        public Optional<Set<Company>> findCandidates(UniqueCompanyList companies) {
+            return Optional.empty();
+        }
+    }
 }
@@ -0,0 +1,70 @@
+package seedu.address.model.company;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalCompanies.ALPHA;
+import static seedu.address.testutil.TypicalCompanies.BETA;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.company.QueryClause.Field;
+import seedu.address.testutil.CompanyBuilder;
+
+public class CompanyQueryTest {
+
+    @Test
+    public void test_allClausesSatisfied_returnsTrue() {
+        CompanyQuery query = new CompanyQuery(Arrays.asList(new QueryClause(Field.NAME, List.of("alpha")),
+                new QueryClause(Field.PHONE, List.of("9435"))));
+        assertTrue(query.test(ALPHA));
+        assertFalse(query.test(BETA));
+
+        assertTrue(new CompanyQuery(Collections.emptyList()).test(BETA));
+    }
+
+    @Test
+    public void findCandidates_noIndexedClause_returnsEmpty() {
+        UniqueCompanyList companies = new UniqueCompanyList();
+        companies.add(ALPHA);
+        assertFalse(new CompanyQuery(List.of(new QueryClause(Field.REMARK, List.of("equipment"))))
+                .findCandidates(companies).isPresent());
+        assertFalse(new CompanyQuery(Collections.emptyList()).findCandidates(companies).isPresent());
+    }
+
+    @Test
+    public void findCandidates_severalIndexedClauses_looksUpMostSelective() {
+        UniqueCompanyList companies = new UniqueCompanyList();
+        List<Company> applied = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            applied.add(new CompanyBuilder().withName("Applied " + i).withStatus("applied").withTags().build());
+        }
+        Company rare = new CompanyBuilder().withName("Rare").withStatus("offered").withTags("rare").build();
+        applied.forEach(companies::add);
+        companies.add(rare);
+
+        // the tag clause has a single candidate, so the many companies with the status are never looked up
+        CompanyQuery query = new CompanyQuery(Arrays.asList(new QueryClause(Field.STATUS, List.of("applied")),
+                new QueryClause(Field.TAG, List.of("rare"))));
+        assertEquals(Collections.singleton(rare), query.findCandidates(companies).get());
+
+        CompanyQuery statusQuery = new CompanyQuery(Arrays.asList(new QueryClause(Field.STATUS, List.of("offered")),
+                new QueryClause(Field.NAME, List.of("app"))));
+        assertEquals(Collections.singleton(rare), statusQuery.findCandidates(companies).get());
+    }
+
+    @Test
+    public void equals() {
+        CompanyQuery query = new CompanyQuery(List.of(new QueryClause(Field.NAME, List.of("alpha"))));
+
+        assertTrue(query.equals(new CompanyQuery(List.of(new QueryClause(Field.NAME, List.of("alpha"))))));
+        assertTrue(query.equals(query));
+        assertFalse(query.equals(null));
+        assertFalse(query.equals(new CompanyQuery(Collections.emptyList())));
+    }
+}
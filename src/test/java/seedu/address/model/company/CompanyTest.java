@@ -2,6 +2,7 @@ package seedu.address.model.company;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOEING;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_EMAIL_BOEING;
@@ -90,6 +91,24 @@ public class CompanyTest {
         assertFalse(ALPHA.equals(editedAlice));
     }
 
+    @Test
+    public void hashCode_equalCompanies_sameHashCode() {
+        Company alphaCopy = new CompanyBuilder(ALPHA).build();
+        assertEquals(ALPHA.hashCode(), alphaCopy.hashCode());
+        assertEquals(ALPHA.hashCode(), ALPHA.hashCode());
+    }
+
+    @Test
+    public void constructor_equalFieldValues_shareCanonicalInstances() {
+        Company alphaCopy = new CompanyBuilder(ALPHA).withTags(VALID_TAG_GOOD_PAY).build();
+        Company boeingCopy = new CompanyBuilder(BOEING).withAddress(ALPHA.getAddress().value)
+                .withStatus(ALPHA.getStatus().toUserInputString()).withTags(VALID_TAG_GOOD_PAY).build();
+
+        assertSame(alphaCopy.getAddress(), boeingCopy.getAddress());
+        assertSame(alphaCopy.getStatus(), boeingCopy.getStatus());
+        assertSame(alphaCopy.getTags().iterator().next(), boeingCopy.getTags().iterator().next());
+    }
+
     @Test
     public void toStringMethod() {
         String expected = Company.class.getCanonicalName() + "{name=" + ALPHA.getName() + ", phone=" + ALPHA.getPhone()
@@ -8,10 +8,12 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.testutil.CompanyBuilder;
+import seedu.address.testutil.TypicalCompanies;
 
 public class FilterPredicateTest {
 
@@ -218,4 +220,40 @@ public class FilterPredicateTest {
                 + "{status=" + status + ", tagKeywords=" + tagKeywords + "}";
         assertEquals(expected, predicate.toString());
     }
+
+    @Test
+    public void findCandidates_tagKeywords_includesEveryMatch() {
+        UniqueCompanyList companies = new UniqueCompanyList();
+        companies.setCompanies(TypicalCompanies.getTypicalcompanies());
+        FilterPredicate predicate = new FilterPredicate(Optional.of(new Status("to-apply")),
+                Arrays.asList("SUPP", "part"));
+
+        Set<Company> candidates = predicate.findCandidates(companies).get();
+        assertFalse(candidates.isEmpty());
+        for (Company company : companies) {
+            if (predicate.test(company)) {
+                assertTrue(candidates.contains(company));
+            }
+        }
+    }
+
+    @Test
+    public void findCandidates_statusOnly_returnsCompaniesWithStatus() {
+        UniqueCompanyList companies = new UniqueCompanyList();
+        companies.setCompanies(TypicalCompanies.getTypicalcompanies());
+        Company accepted = new CompanyBuilder().withName("Accepted Co").withStatus("accepted").build();
+        companies.add(accepted);
+
+        assertEquals(Collections.singleton(accepted),
+                new FilterPredicate(Optional.of(new Status("accepted")), Collections.emptyList())
+                        .findCandidates(companies).get());
+    }
+
+    @Test
+    public void findCandidates_noFilters_returnsEmpty() {
+        UniqueCompanyList companies = new UniqueCompanyList();
+        companies.setCompanies(TypicalCompanies.getTypicalcompanies());
+        assertFalse(new FilterPredicate(Optional.empty(), Collections.emptyList())
+                .findCandidates(companies).isPresent());
+    }
 }
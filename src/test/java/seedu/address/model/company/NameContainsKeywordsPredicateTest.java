@@ -7,10 +7,12 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.testutil.CompanyBuilder;
+import seedu.address.testutil.TypicalCompanies;
 
 public class NameContainsKeywordsPredicateTest {
 
@@ -111,4 +113,24 @@ public class NameContainsKeywordsPredicateTest {
         String expected = NameContainsKeywordsPredicate.class.getCanonicalName() + "{keywords=" + keywords + "}";
         assertEquals(expected, predicate.toString());
     }
+
+    @Test
+    public void findCandidates_indexableKeywords_includesEveryMatch() {
+        UniqueCompanyList companies = new UniqueCompanyList();
+        companies.setCompanies(TypicalCompanies.getTypicalcompanies());
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Arrays.asList("ALP", "ion"));
+
+        Set<Company> candidates = predicate.findCandidates(companies).get();
+        for (Company company : companies) {
+            assertEquals(predicate.test(company), candidates.contains(company));
+        }
+    }
+
+    @Test
+    public void findCandidates_shortKeyword_returnsEmpty() {
+        UniqueCompanyList companies = new UniqueCompanyList();
+        companies.setCompanies(TypicalCompanies.getTypicalcompanies());
+        assertFalse(new NameContainsKeywordsPredicate(Arrays.asList("alpha", "io")).findCandidates(companies)
+                .isPresent());
+    }
 }
@@ -0,0 +1,69 @@
+package seedu.address.model.company;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.CompanyBuilder;
+
+public class NameTrigramIndexTest {
+
+    private final Company google = new CompanyBuilder().withName("Google Singapore").build();
+    private final Company tikTok = new CompanyBuilder().withName("TikTok").build();
+    private final NameTrigramIndex index = new NameTrigramIndex(Arrays.asList(google, tikTok));
+
+    @Test
+    public void findCandidates_nullKeyword_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.findCandidates(null));
+    }
+
+    @Test
+    public void findCandidates_shortKeyword_returnsEmpty() {
+        assertFalse(index.findCandidates("go").isPresent());
+    }
+
+    @Test
+    public void findCandidates_keywordInNames_returnsMatchingCompanies() {
+        assertEquals(Collections.singleton(google), index.findCandidates("gOoGl").get());
+        assertEquals(Collections.singleton(tikTok), index.findCandidates("iktO").get());
+        assertEquals(Collections.singleton(google), index.findCandidates("e sin").get());
+    }
+
+    @Test
+    public void findCandidates_keywordNotInNames_returnsNoCompanies() {
+        assertTrue(index.findCandidates("microsoft").get().isEmpty());
+    }
+
+    @Test
+    public void findCandidates_allTrigramsInNameOutOfOrder_returnsCompany() {
+        // every trigram of the keyword is in the name, but not the keyword itself
+        Company company = new CompanyBuilder().withName("abcd bcde").build();
+        Set<Company> candidates = new NameTrigramIndex(Collections.singletonList(company))
+                .findCandidates("abcde").get();
+        assertEquals(Collections.singleton(company), candidates);
+    }
+
+    @Test
+    public void remove_indexedCompany_companyNoLongerFound() {
+        index.remove(google);
+        assertTrue(index.findCandidates("google").get().isEmpty());
+        assertEquals(Collections.singleton(tikTok), index.findCandidates("tok").get());
+    }
+
+    @Test
+    public void add_newCompany_companyFound() {
+        Company googleCopy = new CompanyBuilder(google).build();
+        index.add(googleCopy);
+
+        // companies are compared by identity
+        assertEquals(2, index.findCandidates("google").get().size());
+    }
+
+}
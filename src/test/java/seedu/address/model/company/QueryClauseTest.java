@@ -0,0 +1,100 @@
+package seedu.address.model.company;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalCompanies.ALPHA;
+import static seedu.address.testutil.TypicalCompanies.BETA;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.company.QueryClause.Field;
+import seedu.address.model.company.exceptions.UnsupportedStatusException;
+import seedu.address.testutil.CompanyBuilder;
+import seedu.address.testutil.TypicalCompanies;
+
+public class QueryClauseTest {
+
+    @Test
+    public void constructor_invalidStatus_throwsUnsupportedStatusException() {
+        assertThrows(UnsupportedStatusException.class, () -> new QueryClause(Field.STATUS, List.of("pending")));
+    }
+
+    @Test
+    public void test_eachField_matchesKeywordsIgnoringCase() {
+        assertTrue(new QueryClause(Field.NAME, List.of("INDUS")).test(ALPHA));
+        assertTrue(new QueryClause(Field.TAG, List.of("Partner")).test(BETA));
+        assertTrue(new QueryClause(Field.STATUS, Arrays.asList("offered", "TO-APPLY")).test(ALPHA));
+        assertTrue(new QueryClause(Field.PHONE, List.of("9435")).test(ALPHA));
+        assertTrue(new QueryClause(Field.EMAIL, List.of("@BETA.")).test(BETA));
+        assertTrue(new QueryClause(Field.ADDRESS, List.of("jurong")).test(ALPHA));
+        assertTrue(new QueryClause(Field.REMARK, List.of("manufacturer")).test(ALPHA));
+
+        assertFalse(new QueryClause(Field.NAME, List.of("beta")).test(ALPHA));
+        assertFalse(new QueryClause(Field.STATUS, List.of("applied")).test(ALPHA));
+        assertFalse(new QueryClause(Field.ADDRESS, List.of("jurong")).test(BETA));
+    }
+
+    @Test
+    public void constructor_stages_sameAsStatusKeywords() {
+        QueryClause clause = new QueryClause(List.of(Status.Stage.OFFERED, Status.Stage.TO_APPLY));
+        assertEquals(new QueryClause(Field.STATUS, Arrays.asList("offered", "to-apply")), clause);
+        assertTrue(clause.test(ALPHA));
+        assertFalse(new QueryClause(List.of(Status.Stage.APPLIED)).test(ALPHA));
+    }
+
+    @Test
+    public void test_missingValue_returnsFalse() {
+        Company noPhone = new CompanyBuilder().withName("No Phone").withPhone(null).build();
+        assertFalse(new QueryClause(Field.PHONE, List.of("9")).test(noPhone));
+    }
+
+    @Test
+    public void findCandidates_unindexedField_returnsEmpty() {
+        UniqueCompanyList companies = new UniqueCompanyList();
+        companies.setCompanies(TypicalCompanies.getTypicalcompanies());
+        QueryClause clause = new QueryClause(Field.EMAIL, List.of("alpha"));
+
+        assertEquals(OptionalLong.empty(), clause.estimateCandidates(companies));
+        assertEquals(Optional.empty(), clause.findCandidates(companies));
+    }
+
+    @Test
+    public void findCandidates_indexedField_estimateBoundsCandidates() {
+        UniqueCompanyList companies = new UniqueCompanyList();
+        companies.setCompanies(TypicalCompanies.getTypicalcompanies());
+        List<QueryClause> clauses = Arrays.asList(new QueryClause(Field.NAME, Arrays.asList("corp", "alpha")),
+                new QueryClause(Field.TAG, List.of("supp")),
+                new QueryClause(Field.STATUS, Arrays.asList("to-apply", "applied")));
+
+        for (QueryClause clause : clauses) {
+            Set<Company> candidates = clause.findCandidates(companies).get();
+            assertTrue(candidates.size() <= clause.estimateCandidates(companies).getAsLong());
+            for (Company company : companies) {
+                if (clause.test(company)) {
+                    assertTrue(candidates.contains(company));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void equals() {
+        QueryClause clause = new QueryClause(Field.NAME, List.of("alpha"));
+
+        assertTrue(clause.equals(new QueryClause(Field.NAME, List.of("alpha"))));
+        assertTrue(clause.equals(clause));
+        assertFalse(clause.equals(null));
+        assertNotEquals(clause, new QueryClause(Field.REMARK, List.of("alpha")));
+        assertNotEquals(clause, new QueryClause(Field.NAME, Collections.emptyList()));
+    }
+}
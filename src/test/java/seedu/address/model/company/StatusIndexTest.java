@@ -0,0 +1,48 @@
+package seedu.address.model.company;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.company.Status.Stage;
+import seedu.address.testutil.CompanyBuilder;
+
+public class StatusIndexTest {
+
+    private final Company applied = new CompanyBuilder().withName("Applied").withStatus("applied").build();
+    private final Company alsoApplied = new CompanyBuilder().withName("Also Applied").withStatus("applied").build();
+    private final Company offered = new CompanyBuilder().withName("Offered").withStatus("offered").build();
+    private final StatusIndex index = new StatusIndex(Arrays.asList(applied, alsoApplied, offered));
+
+    @Test
+    public void findCompanies_nullStage_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.findCompanies(null));
+    }
+
+    @Test
+    public void findCompanies_stage_returnsCompaniesAtStage() {
+        assertEquals(new HashSet<>(Arrays.asList(applied, alsoApplied)), index.findCompanies(Stage.APPLIED));
+        assertEquals(Collections.singleton(offered), index.findCompanies(Stage.OFFERED));
+        assertTrue(index.findCompanies(Stage.REJECTED).isEmpty());
+    }
+
+    @Test
+    public void count_stage_returnsNumberOfCompaniesAtStage() {
+        assertEquals(2, index.count(Stage.APPLIED));
+        assertEquals(0, index.count(Stage.REJECTED));
+    }
+
+    @Test
+    public void remove_indexedCompany_companyNoLongerFound() {
+        index.remove(applied);
+        assertEquals(Collections.singleton(alsoApplied), index.findCompanies(Stage.APPLIED));
+        assertEquals(1, index.count(Stage.APPLIED));
+    }
+
+}
@@ -0,0 +1,45 @@
+package seedu.address.model.company;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.CompanyBuilder;
+
+public class TagIndexTest {
+
+    private final Company remote = new CompanyBuilder().withName("Remote").withTags("remote-friendly").build();
+    private final Company goodPay = new CompanyBuilder().withName("Good Pay").withTags("good-pay", "remote").build();
+    private final Company untagged = new CompanyBuilder().withName("Untagged").withTags().build();
+    private final TagIndex index = new TagIndex(Arrays.asList(remote, goodPay, untagged));
+
+    @Test
+    public void findCompanies_nullKeyword_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.findCompanies(null));
+    }
+
+    @Test
+    public void findCompanies_keywordInTags_returnsTaggedCompanies() {
+        assertEquals(new HashSet<>(Arrays.asList(remote, goodPay)), index.findCompanies("REMOTE"));
+        assertEquals(Collections.singleton(goodPay), index.findCompanies("pay"));
+    }
+
+    @Test
+    public void findCompanies_keywordNotInTags_returnsNoCompanies() {
+        assertTrue(index.findCompanies("java").isEmpty());
+    }
+
+    @Test
+    public void remove_indexedCompany_companyNoLongerFound() {
+        index.remove(goodPay);
+        assertEquals(Collections.singleton(remote), index.findCompanies("remote"));
+        assertTrue(index.findCompanies("pay").isEmpty());
+    }
+
+}
@@ -2,6 +2,7 @@ package seedu.address.model.company;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOEING;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_GOOD_PAY;
@@ -9,15 +10,24 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalCompanies.ALPHA;
 import static seedu.address.testutil.TypicalCompanies.BOEING;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
 import seedu.address.model.company.exceptions.CompanyNotFoundException;
 import seedu.address.model.company.exceptions.DuplicateCompanyException;
 import seedu.address.testutil.CompanyBuilder;
+import seedu.address.testutil.CountingCompany;
 
 public class UniqueCompanyListTest {
 
@@ -47,6 +57,36 @@ public class UniqueCompanyListTest {
         assertTrue(uniqueCompanyList.contains(editedAlice));
     }
 
+    @Test
+    public void contains_companyWithDifferentNameCase_returnsTrue() {
+        uniqueCompanyList.add(ALPHA);
+        Company upperCaseAlpha = new CompanyBuilder(ALPHA).withName(ALPHA.getName().fullName.toUpperCase()).build();
+        assertTrue(uniqueCompanyList.contains(upperCaseAlpha));
+    }
+
+    @Test
+    public void contains_companyRemovedFromList_returnsFalse() {
+        uniqueCompanyList.add(ALPHA);
+        uniqueCompanyList.remove(ALPHA);
+        assertFalse(uniqueCompanyList.contains(ALPHA));
+    }
+
+    @Test
+    public void contains_companyReplacedByDifferentIdentity_returnsFalse() {
+        uniqueCompanyList.add(ALPHA);
+        uniqueCompanyList.setCompany(ALPHA, BOEING);
+        assertFalse(uniqueCompanyList.contains(ALPHA));
+        assertTrue(uniqueCompanyList.contains(BOEING));
+    }
+
+    @Test
+    public void contains_afterSetCompanies_reflectsReplacementOnly() {
+        uniqueCompanyList.add(ALPHA);
+        uniqueCompanyList.setCompanies(Collections.singletonList(BOEING));
+        assertFalse(uniqueCompanyList.contains(ALPHA));
+        assertTrue(uniqueCompanyList.contains(BOEING));
+    }
+
     @Test
     public void add_nullCompany_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueCompanyList.add(null));
@@ -127,6 +167,166 @@ public class UniqueCompanyListTest {
         assertEquals(expectedUniqueCompanyList, uniqueCompanyList);
     }
 
+    @Test
+    public void removeAll_nullCompanies_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniqueCompanyList.removeAll(null));
+        assertThrows(NullPointerException.class, () -> uniqueCompanyList.removeAll(Arrays.asList(ALPHA, null)));
+    }
+
+    @Test
+    public void removeAll_companyDoesNotExist_removesNothing() {
+        uniqueCompanyList.add(ALPHA);
+        long version = uniqueCompanyList.getVersion();
+        assertThrows(CompanyNotFoundException.class, () -> uniqueCompanyList.removeAll(List.of(ALPHA, BOEING)));
+        assertTrue(uniqueCompanyList.contains(ALPHA));
+        assertEquals(version, uniqueCompanyList.getVersion());
+    }
+
+    @Test
+    public void removeAll_existingCompanies_removesCompaniesWithSingleChange() {
+        Company charlie = new CompanyBuilder().withName("Charlie").build();
+        uniqueCompanyList.setCompanies(Arrays.asList(ALPHA, charlie, BOEING));
+        int[] changeCount = {0};
+        List<Company> removedCompanies = new ArrayList<>();
+        uniqueCompanyList.asUnmodifiableObservableList().addListener((ListChangeListener<Company>) change -> {
+            changeCount[0]++;
+            while (change.next()) {
+                // only the removed companies are reported, not the whole list
+                assertFalse(change.wasAdded());
+                removedCompanies.addAll(change.getRemoved());
+            }
+        });
+
+        uniqueCompanyList.removeAll(List.of(BOEING, ALPHA));
+
+        UniqueCompanyList expectedUniqueCompanyList = new UniqueCompanyList();
+        expectedUniqueCompanyList.add(charlie);
+        assertEquals(expectedUniqueCompanyList, uniqueCompanyList);
+        assertFalse(uniqueCompanyList.contains(ALPHA));
+        assertEquals(1, changeCount[0]);
+        assertEquals(2, removedCompanies.size());
+        assertTrue(removedCompanies.containsAll(List.of(ALPHA, BOEING)));
+    }
+
+    @Test
+    public void removeAll_manyCompanies_comparesOnlyRemovedCompanies() {
+        // removing the companies one by one would scan the list for each of them
+        AtomicInteger comparisonCount = new AtomicInteger();
+        List<Company> companies = CountingCompany.createCompanies(1000, comparisonCount);
+        uniqueCompanyList.setCompanies(companies);
+        int[] changeCount = {0};
+        uniqueCompanyList.asUnmodifiableObservableList().addListener((ListChangeListener<Company>) change ->
+                changeCount[0]++);
+        List<Company> removedCompanies = new ArrayList<>();
+        for (int i = 0; i < companies.size(); i += 2) {
+            removedCompanies.add(companies.get(i));
+        }
+
+        uniqueCompanyList.removeAll(removedCompanies);
+
+        assertTrue(comparisonCount.get() <= 2 * removedCompanies.size());
+        assertEquals(1, changeCount[0]);
+        List<Company> remainingCompanies = new ArrayList<>(companies);
+        remainingCompanies.removeAll(removedCompanies);
+        assertEquals(remainingCompanies, uniqueCompanyList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void removeAll_separatedCompanies_reportsEachRemovedRange() {
+        List<Company> companies = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            companies.add(new CompanyBuilder().withName("Company " + i).build());
+        }
+        uniqueCompanyList.setCompanies(companies);
+        ObservableList<Company> copy = FXCollections.observableArrayList(companies);
+        uniqueCompanyList.asUnmodifiableObservableList().addListener((ListChangeListener<Company>) change -> {
+            // replaying the reported removals on a copy of the list must give the same list
+            while (change.next()) {
+                assertFalse(change.wasAdded());
+                assertEquals(change.getRemoved(),
+                        copy.subList(change.getFrom(), change.getFrom() + change.getRemovedSize()));
+                copy.remove(change.getFrom(), change.getFrom() + change.getRemovedSize());
+            }
+        });
+
+        uniqueCompanyList.removeAll(List.of(companies.get(0), companies.get(2), companies.get(3), companies.get(5)));
+
+        assertEquals(List.of(companies.get(1), companies.get(4)), uniqueCompanyList.asUnmodifiableObservableList());
+        assertEquals(uniqueCompanyList.asUnmodifiableObservableList(), copy);
+    }
+
+    @Test
+    public void setCompanyAndRemove_afterRemoveAll_locateCorrectCompanies() {
+        List<Company> expectedCompanies = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            expectedCompanies.add(new CompanyBuilder().withName("Company " + i).build());
+        }
+        uniqueCompanyList.setCompanies(expectedCompanies);
+        uniqueCompanyList.remove(expectedCompanies.get(5));
+        expectedCompanies.remove(5);
+
+        uniqueCompanyList.removeAll(List.of(expectedCompanies.get(3), expectedCompanies.get(1)));
+        expectedCompanies.remove(3);
+        expectedCompanies.remove(1);
+        Company editedCompany = new CompanyBuilder(expectedCompanies.get(2)).withRemark("Edited").build();
+        uniqueCompanyList.setCompany(expectedCompanies.get(2), editedCompany);
+        expectedCompanies.set(2, editedCompany);
+        uniqueCompanyList.remove(expectedCompanies.remove(1));
+
+        assertEquals(expectedCompanies, uniqueCompanyList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setCompanyAndRemove_afterEarlierRemovals_locateCorrectCompanies() {
+        List<Company> expectedCompanies = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            expectedCompanies.add(new CompanyBuilder().withName("Company " + i).build());
+        }
+        uniqueCompanyList.setCompanies(expectedCompanies);
+
+        // removals shift the companies after them
+        uniqueCompanyList.remove(expectedCompanies.remove(1));
+        Company editedCompany = new CompanyBuilder(expectedCompanies.get(3)).withRemark("Edited").build();
+        uniqueCompanyList.setCompany(expectedCompanies.get(3), editedCompany);
+        expectedCompanies.set(3, editedCompany);
+        Company addedCompany = new CompanyBuilder().withName("Company 6").build();
+        uniqueCompanyList.add(addedCompany);
+        expectedCompanies.add(addedCompany);
+        uniqueCompanyList.remove(expectedCompanies.remove(0));
+        uniqueCompanyList.remove(expectedCompanies.remove(4));
+        uniqueCompanyList.remove(expectedCompanies.remove(2));
+
+        assertEquals(expectedCompanies, uniqueCompanyList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setCompany_differentCompanyWithSameName_throwsCompanyNotFoundException() {
+        uniqueCompanyList.add(ALPHA);
+        Company otherAlpha = new CompanyBuilder(ALPHA).withAddress(VALID_ADDRESS_BOEING).build();
+        assertThrows(CompanyNotFoundException.class, () -> uniqueCompanyList.setCompany(otherAlpha, BOEING));
+        assertThrows(CompanyNotFoundException.class, () -> uniqueCompanyList.remove(otherAlpha));
+    }
+
+    @Test
+    public void setCompany_manyCompanies_locatesTargetsWithoutScanning() {
+        // scanning the list for every company to replace would compare the companies ~500,000 times
+        AtomicInteger comparisonCount = new AtomicInteger();
+        List<Company> companies = CountingCompany.createCompanies(1000, comparisonCount);
+        uniqueCompanyList.setCompanies(companies);
+        List<Company> editedCompanies = new ArrayList<>(companies.size());
+        for (Company company : companies) {
+            editedCompanies.add(new CompanyBuilder(company).withRemark("Edited").build());
+        }
+
+        for (int i = 0; i < companies.size(); i++) {
+            uniqueCompanyList.setCompany(companies.get(i), editedCompanies.get(i));
+        }
+
+        // each replacement compares the target with the company of the same name, and with the edited company
+        assertTrue(comparisonCount.get() <= 2 * companies.size());
+        assertEquals(editedCompanies, uniqueCompanyList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void setCompanies_nullUniqueCompanyList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueCompanyList.setCompanies((UniqueCompanyList) null));
@@ -162,6 +362,120 @@ public class UniqueCompanyListTest {
         assertThrows(DuplicateCompanyException.class, () -> uniqueCompanyList.setCompanies(listWithDuplicateCompanies));
     }
 
+    @Test
+    public void setCompanies_listWithSeveralDuplicates_reportsEveryDuplicateName() {
+        List<Company> listWithDuplicateCompanies = Arrays.asList(ALPHA, BOEING, ALPHA, BOEING, ALPHA);
+        assertThrows(DuplicateCompanyException.class, new DuplicateCompanyException(
+                Arrays.asList(ALPHA.getName(), BOEING.getName())).getMessage(), ()
+                -> uniqueCompanyList.setCompanies(listWithDuplicateCompanies));
+    }
+
+    @Test
+    public void setCompanies_nullMap_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniqueCompanyList.setCompanies((Map<Company, Company>) null));
+    }
+
+    @Test
+    public void setCompanies_mapWithMissingTarget_replacesNothing() {
+        uniqueCompanyList.add(ALPHA);
+        Company editedAlpha = new CompanyBuilder(ALPHA).withAddress(VALID_ADDRESS_BOEING).build();
+        Company editedBoeing = new CompanyBuilder(BOEING).withAddress(VALID_ADDRESS_BOEING).build();
+        Map<Company, Company> replacements = Map.of(ALPHA, editedAlpha, BOEING, editedBoeing);
+        assertThrows(CompanyNotFoundException.class, () -> uniqueCompanyList.setCompanies(replacements));
+        assertEquals(Collections.singletonList(ALPHA), uniqueCompanyList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setCompanies_mapCreatingDuplicate_throwsDuplicateCompanyException() {
+        uniqueCompanyList.setCompanies(Arrays.asList(ALPHA, BOEING));
+        Company alphaRenamedToBoeing = new CompanyBuilder(ALPHA).withName(BOEING.getName().fullName).build();
+        assertThrows(DuplicateCompanyException.class, () ->
+                uniqueCompanyList.setCompanies(Map.of(ALPHA, alphaRenamedToBoeing)));
+        assertEquals(Arrays.asList(ALPHA, BOEING), uniqueCompanyList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setCompanies_map_replacesCompaniesWithSingleChange() {
+        Company charlie = new CompanyBuilder().withName("Charlie").build();
+        uniqueCompanyList.setCompanies(Arrays.asList(ALPHA, charlie, BOEING));
+        int[] changeCount = {0};
+        List<Company> replacedCompanies = new ArrayList<>();
+        List<Company> addedCompanies = new ArrayList<>();
+        uniqueCompanyList.asUnmodifiableObservableList().addListener((ListChangeListener<Company>) change -> {
+            changeCount[0]++;
+            while (change.next()) {
+                // only the replaced companies are reported, not the whole list
+                assertTrue(change.wasReplaced());
+                replacedCompanies.addAll(change.getRemoved());
+                addedCompanies.addAll(change.getAddedSubList());
+            }
+        });
+
+        Company editedAlpha = new CompanyBuilder(ALPHA).withTags(VALID_TAG_GOOD_PAY).build();
+        Company editedBoeing = new CompanyBuilder(BOEING).withStatus("offered").build();
+        uniqueCompanyList.setCompanies(Map.of(ALPHA, editedAlpha, BOEING, editedBoeing));
+
+        assertEquals(Arrays.asList(editedAlpha, charlie, editedBoeing),
+                uniqueCompanyList.asUnmodifiableObservableList());
+        assertEquals(Collections.singleton(editedBoeing),
+                uniqueCompanyList.findCompaniesByStatus(Status.Stage.OFFERED));
+        assertEquals(1, changeCount[0]);
+        assertEquals(Arrays.asList(ALPHA, BOEING), replacedCompanies);
+        assertEquals(Arrays.asList(editedAlpha, editedBoeing), addedCompanies);
+    }
+
+    @Test
+    public void setCompanies_mapSwappingNames_success() {
+        uniqueCompanyList.setCompanies(Arrays.asList(ALPHA, BOEING));
+        Company alphaRenamedToBoeing = new CompanyBuilder(ALPHA).withName(BOEING.getName().fullName).build();
+        Company boeingRenamedToAlpha = new CompanyBuilder(BOEING).withName(ALPHA.getName().fullName).build();
+
+        uniqueCompanyList.setCompanies(Map.of(ALPHA, alphaRenamedToBoeing, BOEING, boeingRenamedToAlpha));
+
+        assertEquals(Arrays.asList(alphaRenamedToBoeing, boeingRenamedToAlpha),
+                uniqueCompanyList.asUnmodifiableObservableList());
+        uniqueCompanyList.remove(boeingRenamedToAlpha);
+        assertEquals(Collections.singletonList(alphaRenamedToBoeing), uniqueCompanyList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setCompanies_manyCompanies_noPairwiseComparisons() {
+        // a pairwise uniqueness check would compare the companies ~500,000 times
+        AtomicInteger comparisonCount = new AtomicInteger();
+        List<Company> companies = CountingCompany.createCompanies(1000, comparisonCount);
+
+        uniqueCompanyList.setCompanies(companies);
+
+        assertEquals(0, comparisonCount.get());
+        assertEquals(companies.size(), uniqueCompanyList.asUnmodifiableObservableList().size());
+    }
+
+    @Test
+    public void getVersion_eachMutation_changesVersion() {
+        long initialVersion = uniqueCompanyList.getVersion();
+        uniqueCompanyList.add(ALPHA);
+        long versionAfterAdd = uniqueCompanyList.getVersion();
+        uniqueCompanyList.setCompany(ALPHA, BOEING);
+        long versionAfterSet = uniqueCompanyList.getVersion();
+        uniqueCompanyList.setCompanies(Collections.singletonList(ALPHA));
+        long versionAfterSetAll = uniqueCompanyList.getVersion();
+        uniqueCompanyList.remove(ALPHA);
+
+        assertNotEquals(initialVersion, versionAfterAdd);
+        assertNotEquals(versionAfterAdd, versionAfterSet);
+        assertNotEquals(versionAfterSet, versionAfterSetAll);
+        assertNotEquals(versionAfterSetAll, uniqueCompanyList.getVersion());
+    }
+
+    @Test
+    public void getVersion_failedMutation_keepsVersion() {
+        uniqueCompanyList.add(ALPHA);
+        long version = uniqueCompanyList.getVersion();
+        assertThrows(DuplicateCompanyException.class, () -> uniqueCompanyList.add(ALPHA));
+        assertThrows(CompanyNotFoundException.class, () -> uniqueCompanyList.remove(BOEING));
+        assertEquals(version, uniqueCompanyList.getVersion());
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -172,4 +486,125 @@ public class UniqueCompanyListTest {
     public void toStringMethod() {
         assertEquals(uniqueCompanyList.asUnmodifiableObservableList().toString(), uniqueCompanyList.toString());
     }
+
+    @Test
+    public void findCandidatesByName_listModifiedAfterSearch_indexKeptInSync() {
+        uniqueCompanyList.add(ALPHA);
+        assertEquals(Collections.singleton(ALPHA), uniqueCompanyList.findCandidatesByName("alpha").get());
+
+        Company editedAlpha = new CompanyBuilder(ALPHA).withName("Omega Industries").build();
+        uniqueCompanyList.setCompany(ALPHA, editedAlpha);
+        uniqueCompanyList.add(BOEING);
+        assertTrue(uniqueCompanyList.findCandidatesByName("alpha").get().isEmpty());
+        assertEquals(Collections.singleton(editedAlpha), uniqueCompanyList.findCandidatesByName("omega").get());
+
+        uniqueCompanyList.remove(editedAlpha);
+        assertTrue(uniqueCompanyList.findCandidatesByName("omega").get().isEmpty());
+        assertEquals(Collections.singleton(BOEING),
+                uniqueCompanyList.findCandidatesByName(BOEING.getName().fullName).get());
+
+        uniqueCompanyList.setCompanies(Collections.singletonList(ALPHA));
+        assertEquals(Collections.singleton(ALPHA), uniqueCompanyList.findCandidatesByName("alpha").get());
+        assertTrue(uniqueCompanyList.findCandidatesByName(BOEING.getName().fullName).get().isEmpty());
+    }
+
+    @Test
+    public void findCompaniesByTag_listModifiedAfterSearch_indexKeptInSync() {
+        uniqueCompanyList.add(ALPHA);
+        assertEquals(Collections.singleton(ALPHA), uniqueCompanyList.findCompaniesByTag("supplier"));
+
+        Company editedAlpha = new CompanyBuilder(ALPHA).withTags(VALID_TAG_GOOD_PAY).build();
+        uniqueCompanyList.setCompany(ALPHA, editedAlpha);
+        uniqueCompanyList.add(BOEING);
+        assertTrue(uniqueCompanyList.findCompaniesByTag("supplier").isEmpty());
+        assertEquals(new HashSet<>(Arrays.asList(editedAlpha, BOEING)), uniqueCompanyList.findCompaniesByTag("pay"));
+
+        uniqueCompanyList.remove(editedAlpha);
+        assertEquals(Collections.singleton(BOEING), uniqueCompanyList.findCompaniesByTag("pay"));
+
+        uniqueCompanyList.setCompanies(Collections.singletonList(ALPHA));
+        assertTrue(uniqueCompanyList.findCompaniesByTag("pay").isEmpty());
+    }
+
+    @Test
+    public void countCompaniesByStatus_listModifiedAfterCount_indexKeptInSync() {
+        uniqueCompanyList.add(ALPHA);
+        Status.Stage stage = ALPHA.getStatus().value;
+        assertEquals(1, uniqueCompanyList.countCompaniesByStatus(stage));
+
+        Company offeredAlpha = new CompanyBuilder(ALPHA).withStatus("offered").build();
+        uniqueCompanyList.setCompany(ALPHA, offeredAlpha);
+        assertEquals(0, uniqueCompanyList.countCompaniesByStatus(stage));
+        assertEquals(Collections.singleton(offeredAlpha),
+                uniqueCompanyList.findCompaniesByStatus(Status.Stage.OFFERED));
+
+        uniqueCompanyList.remove(offeredAlpha);
+        assertEquals(0, uniqueCompanyList.countCompaniesByStatus(Status.Stage.OFFERED));
+
+        uniqueCompanyList.setCompanies(Collections.singletonList(offeredAlpha));
+        assertEquals(1, uniqueCompanyList.countCompaniesByStatus(Status.Stage.OFFERED));
+    }
+
+    @Test
+    public void getChangesSince_earlierVersion_returnsChangesInOrder() {
+        uniqueCompanyList.add(ALPHA);
+        long version = uniqueCompanyList.getVersion();
+        Company editedAlpha = new CompanyBuilder(ALPHA).withRemark("Edited").build();
+        uniqueCompanyList.add(BOEING);
+        uniqueCompanyList.setCompany(ALPHA, editedAlpha);
+        uniqueCompanyList.remove(BOEING);
+
+        List<CompanyListChange> expectedChanges = List.of(
+                new CompanyListChange(1, 0, List.of(BOEING)),
+                new CompanyListChange(0, 1, List.of(editedAlpha)),
+                new CompanyListChange(1, 1, List.of()));
+        assertEquals(Optional.of(expectedChanges), uniqueCompanyList.getChangesSince(version));
+        assertEquals(Optional.of(List.of()), uniqueCompanyList.getChangesSince(uniqueCompanyList.getVersion()));
+    }
+
+    @Test
+    public void getChangesSince_separatedCompaniesRemoved_oneChangePerRemovedRange() {
+        List<Company> companies = CountingCompany.createCompanies(1000, new AtomicInteger());
+        uniqueCompanyList.setCompanies(companies);
+        long version = uniqueCompanyList.getVersion();
+        uniqueCompanyList.removeAll(List.of(companies.get(0), companies.get(999)));
+
+        List<CompanyListChange> expectedChanges = List.of(
+                new CompanyListChange(0, 1, List.of()),
+                new CompanyListChange(998, 1, List.of()));
+        assertEquals(Optional.of(expectedChanges), uniqueCompanyList.getChangesSince(version));
+    }
+
+    @Test
+    public void getChangesSince_unknownVersion_returnsEmpty() {
+        UniqueCompanyList otherList = new UniqueCompanyList();
+        otherList.add(ALPHA);
+        uniqueCompanyList.add(BOEING);
+        uniqueCompanyList.add(ALPHA);
+        assertFalse(uniqueCompanyList.getChangesSince(otherList.getVersion()).isPresent());
+    }
+
+    @Test
+    public void getChangesSince_moreChangesThanCompanies_returnsEmpty() {
+        uniqueCompanyList.add(ALPHA);
+        long version = uniqueCompanyList.getVersion();
+        Company editedAlpha = ALPHA;
+        for (int i = 0; i < CompanyChangeLog.MIN_CAPACITY; i++) {
+            Company previous = editedAlpha;
+            editedAlpha = new CompanyBuilder(ALPHA).withRemark("Edit " + i).build();
+            uniqueCompanyList.setCompany(previous, editedAlpha);
+        }
+        assertFalse(uniqueCompanyList.getChangesSince(version).isPresent());
+    }
+
+    @Test
+    public void getChangesSince_copiedList_keepsChanges() {
+        uniqueCompanyList.add(ALPHA);
+        long version = uniqueCompanyList.getVersion();
+        uniqueCompanyList.add(BOEING);
+
+        UniqueCompanyList copy = new UniqueCompanyList();
+        copy.setCompanies(uniqueCompanyList);
+        assertEquals(uniqueCompanyList.getChangesSince(version), copy.getChangesSince(version));
+    }
 }
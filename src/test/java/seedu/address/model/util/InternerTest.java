@@ -0,0 +1,61 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.tag.Tag;
+
+public class InternerTest {
+
+    private final Interner<Tag> interner = new Interner<>();
+
+    @Test
+    public void intern_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> interner.intern(null));
+    }
+
+    @Test
+    public void intern_newValue_returnsSameValue() {
+        Tag tag = new Tag("friends");
+        assertSame(tag, interner.intern(tag));
+        assertEquals(1, interner.size());
+    }
+
+    @Test
+    public void intern_equalValues_returnsFirstInternedValue() {
+        Tag tag = new Tag("friends");
+        interner.intern(tag);
+        assertSame(tag, interner.intern(new Tag("friends")));
+        assertSame(tag, interner.intern(new Tag("Friends")));
+        assertEquals(1, interner.size());
+    }
+
+    @Test
+    public void intern_differentValues_returnsEachValue() {
+        Tag friends = new Tag("friends");
+        Tag colleagues = new Tag("colleagues");
+        assertSame(friends, interner.intern(friends));
+        assertSame(colleagues, interner.intern(colleagues));
+        assertEquals(2, interner.size());
+    }
+
+    @Test
+    public void intern_equalValuesFromManyThreads_returnsOneInstancePerValue() {
+        List<Tag> internedTags = IntStream.range(0, 10000).parallel()
+                .mapToObj(i -> interner.intern(new Tag("tag" + i % 10)))
+                .collect(Collectors.toList());
+        Set<Tag> distinctInstances = Collections.newSetFromMap(new IdentityHashMap<>());
+        distinctInstances.addAll(internedTags);
+        assertEquals(10, distinctInstances.size());
+    }
+}
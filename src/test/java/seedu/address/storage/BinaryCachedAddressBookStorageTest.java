@@ -0,0 +1,129 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalCompanies.HOON;
+import static seedu.address.testutil.TypicalCompanies.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.testutil.CompanyBuilder;
+
+public class BinaryCachedAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private Path cacheFilePath;
+    private CountingAddressBookStorage sourceStorage;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("CachedAddressBook.json");
+        cacheFilePath = BinaryCachedAddressBookStorage.getCacheFilePath(filePath);
+        sourceStorage = new CountingAddressBookStorage(filePath);
+    }
+
+    /**
+     * Saves {@code addressBook} and caches it, as happens over a session of the app.
+     */
+    private void saveAndCache(AddressBook addressBook) throws Exception {
+        BinaryCachedAddressBookStorage storage = new BinaryCachedAddressBookStorage(sourceStorage);
+        storage.saveAddressBook(addressBook);
+        storage.saveCache();
+    }
+
+    private ReadOnlyAddressBook readAddressBook() throws Exception {
+        return new BinaryCachedAddressBookStorage(sourceStorage).readAddressBook().get();
+    }
+
+    @Test
+    public void readAddressBook_upToDateCache_sourceNotRead() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        original.addCompany(new CompanyBuilder().withName("Tagged").withTags("shared", "other").build());
+        original.addCompany(new CompanyBuilder().withName("Also Tagged").withTags("shared")
+                .withStatus("offered").build());
+        saveAndCache(original);
+
+        assertEquals(original, new AddressBook(readAddressBook()));
+        assertEquals(0, sourceStorage.readCount);
+    }
+
+    @Test
+    public void readAddressBook_sourceChangedAfterCaching_sourceRead() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        saveAndCache(original);
+
+        original.addCompany(HOON);
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+
+        assertEquals(original, new AddressBook(readAddressBook()));
+        assertEquals(1, sourceStorage.readCount);
+    }
+
+    @Test
+    public void readAddressBook_corruptedCache_sourceRead() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        saveAndCache(original);
+
+        byte[] cache = Files.readAllBytes(cacheFilePath);
+        cache[cache.length / 2] ^= 1;
+        Files.write(cacheFilePath, cache);
+
+        assertEquals(original, new AddressBook(readAddressBook()));
+        assertEquals(1, sourceStorage.readCount);
+    }
+
+    @Test
+    public void saveCache_afterRead_cachesSourceData() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+
+        BinaryCachedAddressBookStorage storage = new BinaryCachedAddressBookStorage(sourceStorage);
+        storage.readAddressBook();
+        storage.saveCache();
+
+        assertEquals(original, new AddressBook(readAddressBook()));
+        assertEquals(1, sourceStorage.readCount);
+    }
+
+    @Test
+    public void saveCache_sourceDataUnknown_noCacheWritten() throws Exception {
+        BinaryCachedAddressBookStorage storage = new BinaryCachedAddressBookStorage(sourceStorage);
+        storage.saveCache();
+        assertFalse(Files.exists(cacheFilePath));
+
+        storage.saveAddressBook(getTypicalAddressBook());
+        storage.saveCache();
+        assertTrue(Files.exists(cacheFilePath));
+    }
+
+    /**
+     * A {@code JsonAddressBookStorage} that counts how many times its data has been read.
+     */
+    private static class CountingAddressBookStorage extends JsonAddressBookStorage {
+        private int readCount = 0;
+
+        CountingAddressBookStorage(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+            readCount++;
+            return super.readAddressBook(filePath);
+        }
+    }
+
+}
@@ -0,0 +1,224 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalCompanies.ALPHA;
+import static seedu.address.testutil.TypicalCompanies.DELTA;
+import static seedu.address.testutil.TypicalCompanies.HOON;
+import static seedu.address.testutil.TypicalCompanies.IDA;
+import static seedu.address.testutil.TypicalCompanies.getTypicalAddressBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.company.Company;
+import seedu.address.testutil.CompanyBuilder;
+
+public class JournaledAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private Path journalFilePath;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("JournaledAddressBook.json");
+        journalFilePath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+    }
+
+    private JournaledAddressBookStorage createStorage() {
+        return new JournaledAddressBookStorage(new JsonAddressBookStorage(filePath));
+    }
+
+    private ReadOnlyAddressBook readSnapshot() throws Exception {
+        return new JsonAddressBookStorage(filePath).readAddressBook().get();
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(createStorage().readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_changesAfterSnapshot_onlyJournalWritten() throws Exception {
+        JournaledAddressBookStorage storage = createStorage();
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        String snapshot = FileUtil.readFromFile(filePath);
+
+        original.addCompany(HOON);
+        storage.saveAddressBook(original);
+        original.setCompany(DELTA, new CompanyBuilder(DELTA).withRemark("Edited").build());
+        storage.saveAddressBook(original);
+        original.removeCompany(ALPHA);
+        storage.saveAddressBook(original);
+
+        assertEquals(snapshot, FileUtil.readFromFile(filePath));
+        assertEquals(4, Files.readAllLines(journalFilePath).size());
+
+        // companies keep their positions when read back by a new storage
+        assertEquals(original, new AddressBook(createStorage().readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_farApartChanges_onlyChangedCompaniesJournaled() throws Exception {
+        JournaledAddressBookStorage storage = createStorage();
+        List<Company> companies = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            companies.add(new CompanyBuilder().withName("Company " + i).build());
+        }
+        AddressBook original = new AddressBook();
+        original.setCompanies(companies);
+        storage.saveAddressBook(original);
+
+        // both edits are saved together, as the write-behind saver merges saves
+        original.setCompany(companies.get(0), new CompanyBuilder(companies.get(0)).withRemark("First").build());
+        original.setCompany(companies.get(999), new CompanyBuilder(companies.get(999)).withRemark("Last").build());
+        storage.saveAddressBook(new AddressBook(original));
+        original.removeCompanies(List.of(companies.get(1), companies.get(998)));
+        storage.saveAddressBook(new AddressBook(original));
+
+        List<String> journal = Files.readAllLines(journalFilePath);
+        assertEquals(5, journal.size());
+        // only the 2 edited companies are written, and the removed ones are only counted
+        assertEquals(2, journal.stream().mapToInt(line -> line.split("\"name\"", -1).length - 1).sum());
+        assertEquals(original, new AddressBook(createStorage().readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_unchangedData_nothingJournaled() throws Exception {
+        JournaledAddressBookStorage storage = createStorage();
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        storage.saveAddressBook(new AddressBook(original));
+        assertEquals(1, Files.readAllLines(journalFilePath).size());
+    }
+
+    @Test
+    public void saveAddressBook_afterRead_continuesJournal() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        createStorage().saveAddressBook(original);
+
+        JournaledAddressBookStorage storage = createStorage();
+        AddressBook readBack = new AddressBook(storage.readAddressBook().get());
+        readBack.addCompany(IDA);
+        storage.saveAddressBook(readBack);
+
+        assertEquals(original, new AddressBook(readSnapshot()));
+        assertEquals(readBack, new AddressBook(createStorage().readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_manyChanges_journalCompacted() throws Exception {
+        JournaledAddressBookStorage storage = createStorage();
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        Company edited = HOON;
+        original.addCompany(edited);
+        for (int i = 0; i < JournaledAddressBookStorage.MIN_COMPACTION_INTERVAL; i++) {
+            Company previous = edited;
+            edited = new CompanyBuilder(previous).withRemark("Edit " + i).build();
+            original.setCompany(previous, edited);
+            storage.saveAddressBook(original);
+        }
+
+        assertFalse(getTypicalAddressBook().equals(new AddressBook(readSnapshot())));
+        assertTrue(Files.readAllLines(journalFilePath).size() <= JournaledAddressBookStorage.MIN_COMPACTION_INTERVAL);
+        assertEquals(original, new AddressBook(createStorage().readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_snapshotReplaced_journalIgnored() throws Exception {
+        JournaledAddressBookStorage storage = createStorage();
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addCompany(HOON);
+        storage.saveAddressBook(original);
+
+        AddressBook replacement = new AddressBook();
+        replacement.addCompany(IDA);
+        new JsonAddressBookStorage(filePath, false, 0).saveAddressBook(replacement);
+
+        assertEquals(replacement, new AddressBook(createStorage().readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastEntry_entryDiscarded() throws Exception {
+        JournaledAddressBookStorage storage = createStorage();
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addCompany(HOON);
+        storage.saveAddressBook(original);
+        String incompleteEntry = "{\"index\":0,\"removedCount\":1,\"add";
+        FileUtil.appendToFile(journalFilePath, incompleteEntry.getBytes(StandardCharsets.UTF_8));
+
+        JournaledAddressBookStorage reopenedStorage = createStorage();
+        assertEquals(original, new AddressBook(reopenedStorage.readAddressBook().get()));
+
+        // later entries are appended after the last complete one
+        original.addCompany(IDA);
+        reopenedStorage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(createStorage().readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_corruptEntryBeforeValidEntries_throwDataLoadingException() throws Exception {
+        JournaledAddressBookStorage storage = createStorage();
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addCompany(HOON);
+        storage.saveAddressBook(original);
+        original.addCompany(IDA);
+        storage.saveAddressBook(original);
+
+        List<String> lines = new ArrayList<>(Files.readAllLines(journalFilePath));
+        lines.set(1, "{\"index\":\"first\",\"removedCount\":1}");
+        Files.write(journalFilePath, lines);
+        byte[] corruptJournal = Files.readAllBytes(journalFilePath);
+
+        assertThrows(DataLoadingException.class, () -> createStorage().readAddressBook());
+        // the valid entry after the corrupt one is kept
+        assertArrayEquals(corruptJournal, Files.readAllBytes(journalFilePath));
+    }
+
+    @Test
+    public void readAddressBook_entryOutOfRange_throwDataLoadingException() throws Exception {
+        createStorage().saveAddressBook(getTypicalAddressBook());
+        FileUtil.appendToFile(journalFilePath, "{\"index\":100,\"removedCount\":1}\n".getBytes(StandardCharsets.UTF_8));
+        assertThrows(DataLoadingException.class, () -> createStorage().readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_otherFilePath_snapshotWithoutJournal() throws Exception {
+        Path otherFilePath = testFolder.resolve("Other.json");
+        AddressBook original = getTypicalAddressBook();
+        createStorage().saveAddressBook(original, otherFilePath);
+
+        assertTrue(Files.exists(otherFilePath));
+        assertFalse(Files.exists(JournaledAddressBookStorage.getJournalFilePath(otherFilePath)));
+        assertEquals(original, new AddressBook(createStorage().readAddressBook(otherFilePath).get()));
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> createStorage().saveAddressBook(null));
+    }
+
+}
@@ -2,6 +2,7 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalCompanies.ALPHA;
 import static seedu.address.testutil.TypicalCompanies.HOON;
@@ -9,6 +10,7 @@ import static seedu.address.testutil.TypicalCompanies.IDA;
 import static seedu.address.testutil.TypicalCompanies.getTypicalAddressBook;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
@@ -16,8 +18,10 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.testutil.CompanyBuilder;
 
 public class JsonAddressBookStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookStorageTest");
@@ -60,6 +64,23 @@ public class JsonAddressBookStorageTest {
         assertThrows(DataLoadingException.class, () -> readAddressBook("invalidAndValidCompanyAddressBook.json"));
     }
 
+    @Test
+    public void readAddressBook_duplicateCompanyAddressBook_throwDataLoadingException() {
+        assertThrows(DataLoadingException.class, () -> readAddressBook("duplicateCompanyAddressBook.json"));
+    }
+
+    @Test
+    public void readAddressBook_missingCompaniesField_throwDataLoadingException() {
+        assertThrows(DataLoadingException.class, () -> readAddressBook("missingCompaniesAddressBook.json"));
+    }
+
+    @Test
+    public void readAddressBook_extraFields_extraFieldsIgnored() throws Exception {
+        AddressBook expected = new AddressBook();
+        expected.addCompany(new CompanyBuilder().withName("Valid Company").withPhone("9482424").build());
+        assertEquals(expected, new AddressBook(readAddressBook("extraFieldsAddressBook.json").get()));
+    }
+
     @Test
     public void readAndSaveAddressBook_allInOrder_success() throws Exception {
         Path filePath = testFolder.resolve("TempAddressBook.json");
@@ -86,6 +107,77 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void saveAddressBook_prettyPrinted_indentedOutput() throws Exception {
+        Path filePath = testFolder.resolve("PrettyAddressBook.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        assertTrue(FileUtil.readFromFile(filePath).contains("\n"));
+    }
+
+    @Test
+    public void readAndSaveAddressBook_compact_success() throws Exception {
+        Path filePath = testFolder.resolve("CompactAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath, false, 0);
+
+        jsonAddressBookStorage.saveAddressBook(original);
+        assertFalse(FileUtil.readFromFile(filePath).contains("\n"));
+        assertEquals(original, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_withBackups_keepsPreviousGenerations() throws Exception {
+        Path filePath = testFolder.resolve("BackedUpAddressBook.json");
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath, true, 2);
+        AddressBook original = getTypicalAddressBook();
+
+        jsonAddressBookStorage.saveAddressBook(original);
+        assertFalse(Files.exists(JsonAddressBookStorage.getBackupFilePath(filePath, 1)));
+
+        original.addCompany(HOON);
+        jsonAddressBookStorage.saveAddressBook(original);
+        AddressBook secondGeneration = new AddressBook(original);
+        original.addCompany(IDA);
+        jsonAddressBookStorage.saveAddressBook(original);
+        original.removeCompany(ALPHA);
+        jsonAddressBookStorage.saveAddressBook(original);
+
+        JsonAddressBookStorage backupReader = new JsonAddressBookStorage(filePath);
+        assertEquals(secondGeneration, new AddressBook(backupReader
+                .readAddressBook(JsonAddressBookStorage.getBackupFilePath(filePath, 2)).get()));
+        assertFalse(Files.exists(JsonAddressBookStorage.getBackupFilePath(filePath, 3)));
+    }
+
+    @Test
+    public void readAddressBook_corruptedFileWithBackup_recoversFromBackup() throws Exception {
+        Path filePath = testFolder.resolve("CorruptedAddressBook.json");
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath, true, 1);
+        AddressBook original = getTypicalAddressBook();
+        jsonAddressBookStorage.saveAddressBook(original);
+        jsonAddressBookStorage.saveAddressBook(original);
+
+        FileUtil.writeToFile(filePath, "{\"companies\": [");
+        assertEquals(original, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+        assertTrue(jsonAddressBookStorage.getRecoveryMessage().isPresent());
+
+        // the corrupted file is moved aside and replaced by the backup
+        Path corruptFilePath = JsonAddressBookStorage.getCorruptFilePath(filePath);
+        assertEquals("{\"companies\": [", FileUtil.readFromFile(corruptFilePath));
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+
+        // a later read that needs no recovery -> no message
+        jsonAddressBookStorage.readAddressBook();
+        assertFalse(jsonAddressBookStorage.getRecoveryMessage().isPresent());
+    }
+
+    @Test
+    public void readAddressBook_corruptedFileWithoutBackup_throwDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("CorruptedAddressBook.json");
+        FileUtil.writeToFile(filePath, "{\"companies\": [");
+        assertThrows(DataLoadingException.class, () -> new JsonAddressBookStorage(filePath, true, 1)
+                .readAddressBook());
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
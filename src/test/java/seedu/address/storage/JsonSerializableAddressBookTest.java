@@ -11,6 +11,8 @@ import org.junit.jupiter.api.Test;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
+import seedu.address.model.company.Email;
+import seedu.address.model.company.Phone;
 import seedu.address.testutil.TypicalCompanies;
 
 public class JsonSerializableAddressBookTest {
@@ -18,7 +20,10 @@ public class JsonSerializableAddressBookTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonSerializableAddressBookTest");
     private static final Path TYPICAL_COMPANIES_FILE = TEST_DATA_FOLDER.resolve("typicalCompaniesAddressBook.json");
     private static final Path INVALID_COMPANY_FILE = TEST_DATA_FOLDER.resolve("invalidCompanyAddressBook.json");
+    private static final Path INVALID_COMPANIES_FILE = TEST_DATA_FOLDER.resolve("invalidCompaniesAddressBook.json");
     private static final Path DUPLICATE_COMPANY_FILE = TEST_DATA_FOLDER.resolve("duplicateCompanyAddressBook.json");
+    private static final Path INVALID_AND_DUPLICATE_COMPANIES_FILE =
+            TEST_DATA_FOLDER.resolve("invalidAndDuplicateCompaniesAddressBook.json");
 
     @Test
     public void toModelType_typicalCompaniesFile_success() throws Exception {
@@ -36,12 +41,34 @@ public class JsonSerializableAddressBookTest {
         assertThrows(IllegalValueException.class, dataFromFile::toModelType);
     }
 
+    @Test
+    public void toModelType_invalidCompaniesFile_reportsEveryInvalidCompany() throws Exception {
+        JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(INVALID_COMPANIES_FILE,
+                JsonSerializableAddressBook.class).get();
+        String expectedMessage = String.format(JsonSerializableAddressBook.MESSAGE_INVALID_COMPANY_FORMAT, 1,
+                Email.MESSAGE_CONSTRAINTS) + "\n"
+                + String.format(JsonSerializableAddressBook.MESSAGE_INVALID_COMPANY_FORMAT, 3,
+                Phone.MESSAGE_CONSTRAINTS);
+        assertThrows(IllegalValueException.class, expectedMessage, dataFromFile::toModelType);
+    }
+
     @Test
     public void toModelType_duplicateCompanies_throwsIllegalValueException() throws Exception {
         JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(DUPLICATE_COMPANY_FILE,
                 JsonSerializableAddressBook.class).get();
-        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_COMPANY,
+        assertThrows(IllegalValueException.class,
+                String.format(JsonSerializableAddressBook.MESSAGE_DUPLICATE_COMPANY, "Alice Pauline"),
                 dataFromFile::toModelType);
     }
 
+    @Test
+    public void toModelType_invalidAndDuplicateCompanies_reportsBoth() throws Exception {
+        JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(INVALID_AND_DUPLICATE_COMPANIES_FILE,
+                JsonSerializableAddressBook.class).get();
+        String expectedMessage = String.format(JsonSerializableAddressBook.MESSAGE_INVALID_COMPANY_FORMAT, 3,
+                Phone.MESSAGE_CONSTRAINTS) + "\n"
+                + String.format(JsonSerializableAddressBook.MESSAGE_DUPLICATE_COMPANY, "Duplicate Company");
+        assertThrows(IllegalValueException.class, expectedMessage, dataFromFile::toModelType);
+    }
+
 }
@@ -2,9 +2,12 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static seedu.address.testutil.TypicalCompanies.ALPHA;
 import static seedu.address.testutil.TypicalCompanies.getTypicalAddressBook;
 
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -60,6 +63,53 @@ public class StorageManagerTest {
         assertEquals(original, new AddressBook(retrieved));
     }
 
+    @Test
+    public void saveAddressBook_unchangedAddressBook_skipsWrite() throws Exception {
+        List<ReadOnlyAddressBook> savedAddressBooks = new ArrayList<>();
+        JsonAddressBookStorage recordingStorage = new JsonAddressBookStorage(getTempFilePath("ab")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) {
+                savedAddressBooks.add(addressBook);
+            }
+        };
+        storageManager = new StorageManager(recordingStorage, new JsonUserPrefsStorage(getTempFilePath("prefs")));
+
+        AddressBook addressBook = getTypicalAddressBook();
+        storageManager.saveAddressBook(addressBook);
+        storageManager.saveAddressBook(new AddressBook(addressBook));
+        assertEquals(1, savedAddressBooks.size());
+
+        // modified data -> written again
+        addressBook.removeCompany(ALPHA);
+        storageManager.saveAddressBook(addressBook);
+        assertEquals(2, savedAddressBooks.size());
+
+        // unchanged data to a different file -> written again
+        storageManager.saveAddressBook(addressBook, getTempFilePath("other"));
+        assertEquals(3, savedAddressBooks.size());
+    }
+
+    @Test
+    public void saveAddressBook_modifiedDuringWrite_writtenAgain() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        List<ReadOnlyAddressBook> savedAddressBooks = new ArrayList<>();
+        JsonAddressBookStorage recordingStorage = new JsonAddressBookStorage(getTempFilePath("ab")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook toSave, Path filePath) {
+                savedAddressBooks.add(toSave);
+                if (savedAddressBooks.size() == 1) {
+                    // e.g. a command run on the application thread while the saver thread writes
+                    addressBook.removeCompany(ALPHA);
+                }
+            }
+        };
+        storageManager = new StorageManager(recordingStorage, new JsonUserPrefsStorage(getTempFilePath("prefs")));
+
+        storageManager.saveAddressBook(addressBook);
+        storageManager.saveAddressBook(addressBook);
+        assertEquals(2, savedAddressBooks.size());
+    }
+
     @Test
     public void getAddressBookFilePath() {
         assertNotNull(storageManager.getAddressBookFilePath());
@@ -0,0 +1,111 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalCompanies.ALPHA;
+import static seedu.address.testutil.TypicalCompanies.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class WriteBehindSaverTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private final List<Runnable> queuedTasks = new ArrayList<>();
+    private final List<ReadOnlyAddressBook> savedAddressBooks = new ArrayList<>();
+
+    private final JsonAddressBookStorage recordingStorage =
+            new JsonAddressBookStorage(Path.of("unused.json")) {
+                @Override
+                public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) {
+                    savedAddressBooks.add(addressBook);
+                }
+            };
+
+    @Test
+    public void constructor_nullStorage_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new WriteBehindSaver(null));
+    }
+
+    @Test
+    public void requestSave_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new WriteBehindSaver(recordingStorage).requestSave(null));
+    }
+
+    @Test
+    public void requestSave_burstOfRequests_savesLatestSnapshotOnce() {
+        WriteBehindSaver saver = new WriteBehindSaver(recordingStorage, queuedTasks::add);
+        AddressBook first = new AddressBook();
+        AddressBook second = new AddressBook();
+        second.addCompany(ALPHA);
+        AddressBook latest = getTypicalAddressBook();
+
+        saver.requestSave(first);
+        saver.requestSave(second);
+        saver.requestSave(latest);
+        runQueuedTasks();
+
+        assertEquals(List.of(latest), savedAddressBooks);
+    }
+
+    @Test
+    public void requestSave_afterEarlierSaveRan_savesAgain() {
+        WriteBehindSaver saver = new WriteBehindSaver(recordingStorage, queuedTasks::add);
+        AddressBook first = new AddressBook();
+        AddressBook second = getTypicalAddressBook();
+
+        saver.requestSave(first);
+        runQueuedTasks();
+        saver.requestSave(second);
+        runQueuedTasks();
+
+        assertEquals(List.of(first, second), savedAddressBooks);
+    }
+
+    @Test
+    public void requestSave_storageThrowsIoException_notifiesFailureHandler() {
+        IOException exception = new IOException("disk full");
+        JsonAddressBookStorage failingStorage = new JsonAddressBookStorage(Path.of("unused.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                throw exception;
+            }
+        };
+        List<IOException> failures = new ArrayList<>();
+        WriteBehindSaver saver = new WriteBehindSaver(failingStorage, Runnable::run);
+        saver.setFailureHandler(failures::add);
+
+        saver.requestSave(new AddressBook());
+
+        assertEquals(List.of(exception), failures);
+    }
+
+    @Test
+    public void flush_backgroundThread_waitsForPendingSave() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        WriteBehindSaver saver = new WriteBehindSaver(new JsonAddressBookStorage(filePath));
+        AddressBook original = getTypicalAddressBook();
+
+        saver.requestSave(original);
+        saver.flush();
+
+        ReadOnlyAddressBook readBack = new JsonAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+    }
+
+    private void runQueuedTasks() {
+        List<Runnable> tasks = new ArrayList<>(queuedTasks);
+        queuedTasks.clear();
+        tasks.forEach(Runnable::run);
+    }
+}
@@ -0,0 +1,57 @@
+package seedu.address.testutil;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import seedu.address.model.company.Company;
+
+/**
+ * A {@code Company} that counts every time it is compared with another company, through {@code equals} or
+ * {@code isSameCompany}, in a counter shared with other companies.
+ * Tests use it to check how much work an operation does, which unlike its running time does not depend on the
+ * machine the tests run on.
+ */
+public class CountingCompany extends Company {
+
+    private final AtomicInteger comparisonCount;
+
+    /**
+     * Creates a company with the same fields as {@code company}, which counts its comparisons in
+     * {@code comparisonCount}.
+     */
+    public CountingCompany(Company company, AtomicInteger comparisonCount) {
+        super(company.getName(), company.getPhone(), company.getEmail(), company.getAddress(), company.getTags(),
+                company.getRemark(), company.getStatus());
+        this.comparisonCount = comparisonCount;
+    }
+
+    /**
+     * Returns {@code count} distinct companies, named "Company 0" onwards, which count their comparisons in
+     * {@code comparisonCount}.
+     */
+    public static List<Company> createCompanies(int count, AtomicInteger comparisonCount) {
+        List<Company> companies = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            companies.add(new CountingCompany(new CompanyBuilder().withName("Company " + i).build(), comparisonCount));
+        }
+        return companies;
+    }
+
+    @Override
+    public boolean isSameCompany(Company otherCompany) {
+        comparisonCount.incrementAndGet();
+        return super.isSameCompany(otherCompany);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        comparisonCount.incrementAndGet();
+        return super.equals(other);
+    }
+
+    @Override
+    public int hashCode() {
+        return super.hashCode();
+    }
+}